@@ -1,6 +1,7 @@
 package com.example.miniproyectosudoku;
 
 import com.example.miniproyectosudoku.view.SudokuWelcomeStage;
+import com.example.miniproyectosudoku.view.ViewCache;
 import javafx.application.Application;
 import javafx.stage.Stage;
 
@@ -13,6 +14,7 @@ public class Main extends Application {
 
     /**
      * Starts the JavaFX application and shows the welcome stage.
+     * The game view is preloaded in the background while the welcome screen is visible.
      *
      * @param primaryStage The primary stage provided by JavaFX
      */
@@ -20,6 +22,7 @@ public class Main extends Application {
     public void start(Stage primaryStage) {
         SudokuWelcomeStage welcomeStage = new SudokuWelcomeStage();
         welcomeStage.show();
+        ViewCache.preload(ViewCache.GAME_VIEW);
     }
 
     /**
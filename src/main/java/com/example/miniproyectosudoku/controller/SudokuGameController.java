@@ -1,5 +1,6 @@
 package com.example.miniproyectosudoku.controller;
 
+import javafx.application.Platform;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
@@ -8,8 +9,15 @@ import javafx.scene.control.Button;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.scene.input.KeyEvent;
+import javafx.scene.text.Font;
+import javafx.stage.WindowEvent;
 import javafx.event.EventHandler;
+import com.example.miniproyectosudoku.model.analytics.AnalyticsPipeline;
+import com.example.miniproyectosudoku.model.game.AsyncGame;
 import com.example.miniproyectosudoku.model.game.Game;
+import com.example.miniproyectosudoku.model.replay.SessionLogs;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Controller for the Sudoku game view.
@@ -19,6 +27,7 @@ import com.example.miniproyectosudoku.model.game.Game;
 public class SudokuGameController {
 
     private Game game;
+    private AsyncGame asyncGame; // Runs generation and hints off the FX thread
 
     @FXML private TextField a1, a2, a3, a4, a5, a6;
     @FXML private TextField b1, b2, b3, b4, b5, b6;
@@ -31,13 +40,21 @@ public class SudokuGameController {
 
     private TextField[][] cells;
 
+    private Font valueFont; // Font of entered values, as defined in the FXML
+    private Font pencilFont; // Smaller font used for the pencil marks of empty cells
+    private boolean sessionSaved; // Whether the move log of this session has been saved
+
     /**
-     * Initializes the controller and sets up the game board.
+     * Initializes the controller and starts generating the game board in the background.
+     * The board is rendered on the FX thread once it is ready. While a background
+     * operation is pending the cells are locked, so the game is never used from
+     * the FX thread and the background thread at the same time.
      */
     @FXML
     public void initialize() {
         game = new Game();
-        game.startNewGame();
+        game.setAnalytics(AnalyticsPipeline.getDefault()); // Moves, failed attempts and hints, for player statistics
+        asyncGame = new AsyncGame(game);
 
         cells = new TextField[][]{
                 {a1, a2, a3, a4, a5, a6},
@@ -48,7 +65,74 @@ public class SudokuGameController {
                 {f1, f2, f3, f4, f5, f6}
         };
 
+        valueFont = a1.getFont();
+        pencilFont = Font.font(valueFont.getFamily(), valueFont.getSize() * 0.45);
+
+        // The view may be preloaded at launch, before it has a window. Time per move is measured
+        // from when the window is shown, not from when the board was generated. The session is saved
+        // when the window closes, waiting for the write (and at most one pending operation)
+        // so it finishes before the app exits
+        helpButton.sceneProperty().addListener((sceneProperty, oldScene, scene) -> {
+            if (scene != null) {
+                scene.windowProperty().addListener((windowProperty, oldWindow, window) -> {
+                    if (window != null) {
+                        window.addEventHandler(WindowEvent.WINDOW_SHOWN, event -> asyncGame.submit(ignored -> {
+                            game.restartClock();
+                            return null;
+                        }));
+                        window.addEventHandler(WindowEvent.WINDOW_HIDDEN, event -> saveSession().join());
+                    }
+                });
+            }
+        });
+
+        helpButton.setDisable(true);
+        setCellsLocked(true);
+        asyncGame.startNewGame()
+                .thenRunAsync(this::onGameReady, Platform::runLater)
+                .exceptionally(this::onError);
+    }
+
+    /**
+     * Renders the generated board and enables the help button.
+     * Runs on the FX thread.
+     */
+    private void onGameReady() {
         renderBoard();
+        renderCandidates();
+        setCellsLocked(false);
+        helpButton.setDisable(false);
+    }
+
+    /**
+     * Reports a failed background operation and gives the board back to the player.
+     *
+     * @param error The failure
+     * @return Nothing, so it can be used with CompletableFuture.exceptionally
+     */
+    private Void onError(Throwable error) {
+        error.printStackTrace();
+        Platform.runLater(() -> {
+            setCellsLocked(false);
+            helpButton.setDisable(false);
+        });
+        return null;
+    }
+
+    /**
+     * Locks or unlocks the cells the player can edit.
+     * Runs on the FX thread.
+     *
+     * @param locked true while a background operation is pending
+     */
+    private void setCellsLocked(boolean locked) {
+        for (int i = 0; i < 6; i++) {
+            for (int j = 0; j < 6; j++) {
+                if (locked || !game.isInitialCell(i, j)) {
+                    cells[i][j].setEditable(!locked);
+                }
+            }
+        }
     }
 
     /**
@@ -77,12 +161,52 @@ public class SudokuGameController {
         }
     }
 
+    /**
+     * Renders the candidate values maintained by the model as pencil marks
+     * in every empty cell, using the cell's prompt text.
+     */
+    private void renderCandidates() {
+        for (int i = 0; i < 6; i++) {
+            for (int j = 0; j < 6; j++) {
+                if (game.isInitialCell(i, j)) {
+                    continue;
+                }
+
+                int mask = game.getCandidates(i, j);
+                StringBuilder marks = new StringBuilder();
+                for (int v = 1; v <= 6; v++) {
+                    if ((mask & (1 << v)) != 0) {
+                        marks.append(v);
+                    }
+                }
+                cells[i][j].setPromptText(marks.toString());
+                cells[i][j].setFont(cells[i][j].getText().isEmpty() ? pencilFont : valueFont);
+            }
+        }
+    }
+
     /**
      * Handles the help button click event.
+     * The hint is computed in the background and shown on the FX thread.
      */
     @FXML
     private void onHelpClicked() {
-        int[] hint = game.getHint();
+        helpButton.setDisable(true);
+        setCellsLocked(true); // The hint must not land on a cell filled while it is computed
+        asyncGame.getHint()
+                .thenAcceptAsync(this::showHint, Platform::runLater)
+                .exceptionally(this::onError);
+    }
+
+    /**
+     * Shows a hint on the board; the cell's text listener applies it to the game.
+     * Runs on the FX thread.
+     *
+     * @param hint The hint [row, col, value], or null if no hints are available
+     */
+    private void showHint(int[] hint) {
+        setCellsLocked(false);
+        helpButton.setDisable(false);
         if (hint == null) {
             Alert alert = new Alert(AlertType.INFORMATION);
             alert.setTitle("Sin Sugerencias");
@@ -96,13 +220,10 @@ public class SudokuGameController {
         int col = hint[1];
         int value = hint[2];
 
-        // Display the hint visually
+        // Setting the text fires the cell's listener, which makes the move, renders the
+        // candidates and checks for the end of the game, so the hint is applied only once
         cells[row][col].setText(String.valueOf(value));
         cells[row][col].setStyle("-fx-background-color: #FFF5BA; -fx-border-color: orange; -fx-border-width: 2px;");
-        game.makeMove(row, col, value);
-
-        // Check if game is over after hint
-        checkGameOver();
     }
 
     /**
@@ -110,6 +231,7 @@ public class SudokuGameController {
      */
     private void checkGameOver() {
         if (game.isGameOver()) {
+            saveSession();
             Alert alert = new Alert(AlertType.INFORMATION);
             alert.setTitle("Felicitaciones!");
             alert.setHeaderText("Ganaste!");
@@ -118,6 +240,29 @@ public class SudokuGameController {
         }
     }
 
+    /**
+     * Saves the move log of the session so it can be replayed, once per session.
+     * The log is written through the game's operation queue, after any pending
+     * operation. Sessions without moves are not saved.
+     *
+     * @return A future completed once the log has been written or skipped
+     */
+    private CompletableFuture<Void> saveSession() {
+        if (sessionSaved) {
+            return CompletableFuture.completedFuture(null);
+        }
+        sessionSaved = true;
+        return asyncGame.submit(ignored -> {
+            if (game.getMoveLog().size() > 0) {
+                try {
+                    SessionLogs.save(game.getMoveLog());
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+            return null;
+        });
+    }
 
     /**
      * Inner class to handle key typed events in cells.
@@ -191,6 +336,7 @@ public class SudokuGameController {
             if (newValue.isEmpty()) {
                 game.makeMove(row, col, 0);
                 cells[row][col].setStyle("-fx-background-color: white; -fx-border-color: #C0C0C0;");
+                renderCandidates();
                 return;
             }
 
@@ -202,12 +348,14 @@ public class SudokuGameController {
                 if (game.isValidMove(row, col, val)) {
                     game.makeMove(row, col, val);
                     cells[row][col].setStyle("-fx-background-color: #E6FFD0; -fx-border-color: #7ACC4A; -fx-border-width: 2;");
+                    renderCandidates();
 
                     // Check if game is complete after valid move
                     checkGameOver();
                 } else {
                     // Invalid input → red border
                     cells[row][col].setStyle("-fx-background-color: #FFD0D0; -fx-border-color: red; -fx-border-width: 2;");
+                    cells[row][col].setFont(valueFont);
                 }
             } else {
                 cells[row][col].setText("");
@@ -1,8 +1,8 @@
 package com.example.miniproyectosudoku.controller;
 
+import com.example.miniproyectosudoku.view.ViewCache;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.stage.Stage;
@@ -30,9 +30,8 @@ public class SudokuWelcomeController {
     @FXML
     private void handleStartButton(ActionEvent event) {
         try {
-            // Loads the FXML of the game view
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/example/miniproyectosudoku/sudoku-game-view.fxml"));
-            Scene gameScene = new Scene(loader.load());
+            // Takes the game view preloaded while the welcome screen was showing
+            Scene gameScene = new Scene(ViewCache.take(ViewCache.GAME_VIEW));
 
             Stage gameStage = new Stage();
             gameStage.setScene(gameScene);
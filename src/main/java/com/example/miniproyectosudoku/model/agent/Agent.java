@@ -0,0 +1,79 @@
+package com.example.miniproyectosudoku.model.agent;
+
+import com.example.miniproyectosudoku.model.game.IGame;
+
+import java.util.Random;
+
+/**
+ * Headless synthetic player. Starts games and plays them with a
+ * {@link Strategy}, using only the {@link IGame} interface.
+ * @version 1.0
+ */
+public class Agent {
+
+    /**
+     * Default limit of move attempts per game, so a stuck strategy always finishes.
+     */
+    public static final int MAX_MOVES = 2_000;
+
+    private final Strategy strategy;
+    private final Random random;
+    private final AgentStats stats = new AgentStats();
+
+    /**
+     * Constructor for Agent.
+     *
+     * @param strategy The strategy to play with
+     * @param seed The seed of the agent's own choices
+     */
+    public Agent(Strategy strategy, long seed) {
+        this.strategy = strategy;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Creates a strategy by name.
+     *
+     * @param name One of "perfect", "human" or "hints"
+     * @return The strategy
+     */
+    public static Strategy strategy(String name) {
+        switch (name) {
+            case "perfect":
+                return new PerfectStrategy();
+            case "human":
+                return new HumanStrategy(0.15, 0.02);
+            case "hints":
+                return new HumanStrategy(0.05, 0.6);
+            default:
+                throw new IllegalArgumentException("Unknown strategy: " + name);
+        }
+    }
+
+    /**
+     * Starts a game from a seed and plays it.
+     *
+     * @param game The game to play
+     * @param seed The seed of the puzzle
+     * @return true if the game was completed, false if the agent gave up
+     */
+    public boolean play(IGame game, long seed) {
+        game.startNewGame(seed);
+        strategy.play(game, random, stats, MAX_MOVES);
+        stats.games++;
+        boolean solved = game.isGameOver();
+        if (solved) {
+            stats.solved++;
+        }
+        return solved;
+    }
+
+    /**
+     * Gets the counters of every game this agent played.
+     *
+     * @return The agent's statistics
+     */
+    public AgentStats getStats() {
+        return stats;
+    }
+}
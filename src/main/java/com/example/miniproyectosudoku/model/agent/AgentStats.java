@@ -0,0 +1,73 @@
+package com.example.miniproyectosudoku.model.agent;
+
+/**
+ * Counters of what agents did while playing.
+ * Each agent thread keeps its own instance; results are combined with {@link #add(AgentStats)}.
+ * @version 1.0
+ */
+public class AgentStats {
+
+    long games;
+    long solved;
+    long moves;
+    long rejected;
+    long hints;
+
+    /**
+     * Adds the counters of another instance to this one.
+     *
+     * @param other The counters to add
+     */
+    public void add(AgentStats other) {
+        games += other.games;
+        solved += other.solved;
+        moves += other.moves;
+        rejected += other.rejected;
+        hints += other.hints;
+    }
+
+    /**
+     * Gets the number of games played.
+     *
+     * @return The game count
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the number of games played to completion.
+     *
+     * @return The solved game count
+     */
+    public long getSolved() {
+        return solved;
+    }
+
+    /**
+     * Gets the number of moves accepted by the game, including clears.
+     *
+     * @return The move count
+     */
+    public long getMoves() {
+        return moves;
+    }
+
+    /**
+     * Gets the number of moves that broke the rules.
+     *
+     * @return The rejected move count
+     */
+    public long getRejected() {
+        return rejected;
+    }
+
+    /**
+     * Gets the number of hints requested.
+     *
+     * @return The hint count
+     */
+    public long getHints() {
+        return hints;
+    }
+}
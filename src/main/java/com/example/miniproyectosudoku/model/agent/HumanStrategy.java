@@ -0,0 +1,126 @@
+package com.example.miniproyectosudoku.model.agent;
+
+import com.example.miniproyectosudoku.model.game.IGame;
+
+import java.util.Random;
+
+/**
+ * Plays like a person: picks a random empty cell, usually writes one of its
+ * candidates but sometimes a wrong digit, asks for hints at a given rate, and
+ * erases one of its own entries when it gets stuck.
+ * @version 1.0
+ */
+public class HumanStrategy implements Strategy {
+
+    private final double mistakeRate;
+    private final double hintRate;
+
+    /**
+     * Constructor for HumanStrategy.
+     *
+     * @param mistakeRate The probability (0-1) of typing a random digit instead of a candidate
+     * @param hintRate The probability (0-1) of asking for a hint instead of playing
+     */
+    public HumanStrategy(double mistakeRate, double hintRate) {
+        this.mistakeRate = mistakeRate;
+        this.hintRate = hintRate;
+    }
+
+    @Override
+    public void play(IGame game, Random random, AgentStats stats, int maxMoves) {
+        int[][] grid = game.getBoard();
+        int[] empty = new int[36]; // Empty cells, as row * 6 + col
+        int[] own = new int[36]; // Cells filled by the agent
+        int emptyCount = 0;
+        int ownCount = 0;
+        for (int cell = 0; cell < 36; cell++) {
+            if (grid[cell / 6][cell % 6] == 0) {
+                empty[emptyCount++] = cell;
+            }
+        }
+
+        for (int attempt = 0; attempt < maxMoves && emptyCount > 0; attempt++) {
+            int row;
+            int col;
+            int value;
+            boolean stuck = false;
+
+            if (random.nextDouble() < hintRate) {
+                int[] hint = game.getHint();
+                stats.hints++;
+                if (hint == null) {
+                    break;
+                }
+                row = hint[0];
+                col = hint[1];
+                value = hint[2];
+                // A hint comes from the solution, so it is rejected once the board has diverged
+                stuck = !game.isValidMove(row, col, value);
+            } else {
+                int cell = empty[random.nextInt(emptyCount)];
+                row = cell / 6;
+                col = cell % 6;
+                int mask = game.getCandidates(row, col);
+                if (random.nextDouble() < mistakeRate) {
+                    value = 1 + random.nextInt(6);
+                } else if (mask != 0) {
+                    value = pick(mask, random);
+                } else {
+                    value = 0;
+                    stuck = true;
+                }
+                if (!stuck && !game.isValidMove(row, col, value)) {
+                    stats.rejected++;
+                    continue;
+                }
+            }
+
+            if (stuck) {
+                // Erase one of the agent's own entries and keep going
+                if (ownCount == 0) {
+                    break;
+                }
+                int index = random.nextInt(ownCount);
+                int cell = own[index];
+                own[index] = own[--ownCount];
+                game.makeMove(cell / 6, cell % 6, 0);
+                stats.moves++;
+                grid[cell / 6][cell % 6] = 0;
+                empty[emptyCount++] = cell;
+                continue;
+            }
+
+            if (game.makeMove(row, col, value)) {
+                stats.moves++;
+                grid[row][col] = value;
+                int cell = row * 6 + col;
+                own[ownCount++] = cell;
+                for (int i = 0; i < emptyCount; i++) {
+                    if (empty[i] == cell) {
+                        empty[i] = empty[--emptyCount];
+                        break;
+                    }
+                }
+            } else {
+                stats.rejected++;
+            }
+        }
+    }
+
+    /**
+     * Picks a random value from a candidate mask.
+     *
+     * @param mask The candidate bitmask (bit v set when v is possible), not 0
+     * @param random The source of randomness
+     * @return One of the candidate values
+     */
+    private static int pick(int mask, Random random) {
+        int index = random.nextInt(Integer.bitCount(mask));
+        for (int v = 1; v <= 6; v++) {
+            if ((mask & (1 << v)) != 0 && index-- == 0) {
+                return v;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.miniproyectosudoku.model.agent;
+
+import com.example.miniproyectosudoku.model.game.IGame;
+
+import java.util.Random;
+
+/**
+ * Plays like a perfect solver: always fills the empty cell with the fewest
+ * candidates and backtracks (by clearing cells) when it reaches a dead end.
+ * @version 1.0
+ */
+public class PerfectStrategy implements Strategy {
+
+    @Override
+    public void play(IGame game, Random random, AgentStats stats, int maxMoves) {
+        int[][] grid = game.getBoard();
+        solve(game, grid, stats, new int[]{maxMoves});
+    }
+
+    /**
+     * Fills the remaining cells by depth-first search.
+     *
+     * @param game The game to play
+     * @param grid The agent's copy of the board, kept in sync with its moves
+     * @param stats The counters to update
+     * @param budget A one-element array with the number of moves left
+     * @return true if the board was completed, false otherwise
+     */
+    private boolean solve(IGame game, int[][] grid, AgentStats stats, int[] budget) {
+        int bestRow = -1;
+        int bestCol = -1;
+        int bestCount = 7;
+        for (int r = 0; r < 6; r++) {
+            for (int c = 0; c < 6; c++) {
+                if (grid[r][c] == 0) {
+                    int count = Integer.bitCount(game.getCandidates(r, c));
+                    if (count < bestCount) {
+                        bestRow = r;
+                        bestCol = c;
+                        bestCount = count;
+                    }
+                }
+            }
+        }
+        if (bestRow < 0) {
+            return true;
+        }
+
+        int mask = game.getCandidates(bestRow, bestCol);
+        for (int v = 1; v <= 6 && budget[0] > 0; v++) {
+            if ((mask & (1 << v)) == 0) {
+                continue;
+            }
+            budget[0]--;
+            if (!game.makeMove(bestRow, bestCol, v)) {
+                stats.rejected++; // A candidate can still break a killer cage sum
+                continue;
+            }
+            stats.moves++;
+            grid[bestRow][bestCol] = v;
+            if (solve(game, grid, stats, budget)) {
+                return true;
+            }
+            game.makeMove(bestRow, bestCol, 0);
+            stats.moves++;
+            grid[bestRow][bestCol] = 0;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.miniproyectosudoku.model.agent;
+
+import com.example.miniproyectosudoku.model.game.IGame;
+
+import java.util.Random;
+
+/**
+ * A way of playing a Sudoku game. Strategies only use the {@link IGame}
+ * interface, so they exercise the engine exactly as a real player would.
+ * @version 1.0
+ */
+public interface Strategy {
+
+    /**
+     * Plays a started game until it is over or the move budget runs out.
+     *
+     * @param game The game to play
+     * @param random The source of randomness for the strategy's choices
+     * @param stats The counters to update
+     * @param maxMoves The maximum number of moves to attempt
+     */
+    void play(IGame game, Random random, AgentStats stats, int maxMoves);
+}
@@ -0,0 +1,154 @@
+package com.example.miniproyectosudoku.model.agent;
+
+import com.example.miniproyectosudoku.model.game.IGame;
+import com.example.miniproyectosudoku.model.puzzle.PuzzleKey;
+
+/**
+ * {@link IGame} decorator that measures how long each call takes.
+ * Not thread-safe: each thread wraps its own game.
+ * @version 1.0
+ */
+public class TimedGame implements IGame {
+
+    /**
+     * The measured calls.
+     */
+    public enum Call { START_GAME, MAKE_MOVE, IS_VALID_MOVE, GET_HINT, GET_CANDIDATES, IS_GAME_OVER, GET_BOARD, SOLVE }
+
+    private final IGame game;
+    private final long[] counts = new long[Call.values().length];
+    private final long[] nanos = new long[Call.values().length];
+
+    /**
+     * Constructor for TimedGame.
+     *
+     * @param game The game to measure
+     */
+    public TimedGame(IGame game) {
+        this.game = game;
+    }
+
+    /**
+     * Records one call.
+     *
+     * @param call The call
+     * @param start The System.nanoTime value when the call started
+     */
+    private void record(Call call, long start) {
+        nanos[call.ordinal()] += System.nanoTime() - start;
+        counts[call.ordinal()]++;
+    }
+
+    /**
+     * Adds the measurements of another instance to this one.
+     *
+     * @param other The measurements to add
+     */
+    public void add(TimedGame other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+            nanos[i] += other.nanos[i];
+        }
+    }
+
+    /**
+     * Gets the number of measured calls.
+     *
+     * @param call The call
+     * @return The call count
+     */
+    public long getCount(Call call) {
+        return counts[call.ordinal()];
+    }
+
+    /**
+     * Gets the total time spent in a call.
+     *
+     * @param call The call
+     * @return The total time in nanoseconds
+     */
+    public long getNanos(Call call) {
+        return nanos[call.ordinal()];
+    }
+
+    @Override
+    public void startNewGame() {
+        long start = System.nanoTime();
+        game.startNewGame();
+        record(Call.START_GAME, start);
+    }
+
+    @Override
+    public void startNewGame(long seed) {
+        long start = System.nanoTime();
+        game.startNewGame(seed);
+        record(Call.START_GAME, start);
+    }
+
+    @Override
+    public void startGame(PuzzleKey key) {
+        long start = System.nanoTime();
+        game.startGame(key);
+        record(Call.START_GAME, start);
+    }
+
+    @Override
+    public long getSeed() {
+        return game.getSeed();
+    }
+
+    @Override
+    public boolean makeMove(int row, int col, int value) {
+        long start = System.nanoTime();
+        boolean result = game.makeMove(row, col, value);
+        record(Call.MAKE_MOVE, start);
+        return result;
+    }
+
+    @Override
+    public boolean isValidMove(int row, int col, int value) {
+        long start = System.nanoTime();
+        boolean result = game.isValidMove(row, col, value);
+        record(Call.IS_VALID_MOVE, start);
+        return result;
+    }
+
+    @Override
+    public boolean isGameOver() {
+        long start = System.nanoTime();
+        boolean result = game.isGameOver();
+        record(Call.IS_GAME_OVER, start);
+        return result;
+    }
+
+    @Override
+    public int[][] getBoard() {
+        long start = System.nanoTime();
+        int[][] result = game.getBoard();
+        record(Call.GET_BOARD, start);
+        return result;
+    }
+
+    @Override
+    public int getCandidates(int row, int col) {
+        long start = System.nanoTime();
+        int result = game.getCandidates(row, col);
+        record(Call.GET_CANDIDATES, start);
+        return result;
+    }
+
+    @Override
+    public void solve() {
+        long start = System.nanoTime();
+        game.solve();
+        record(Call.SOLVE, start);
+    }
+
+    @Override
+    public int[] getHint() {
+        long start = System.nanoTime();
+        int[] result = game.getHint();
+        record(Call.GET_HINT, start);
+        return result;
+    }
+}
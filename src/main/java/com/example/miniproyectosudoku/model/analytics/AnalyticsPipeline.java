@@ -0,0 +1,251 @@
+package com.example.miniproyectosudoku.model.analytics;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Collects player events from games and turns them into statistics.
+ * Games record events into a lock-free ring without allocating; a background
+ * consumer drains the ring, updates per-puzzle and per-difficulty totals
+ * incrementally and periodically appends the totals since the previous flush
+ * to a {@link StatsFile}.
+ * @version 1.0
+ */
+public class AnalyticsPipeline implements AutoCloseable {
+
+    /**
+     * File of the default pipeline.
+     */
+    public static final Path DEFAULT_FILE = Path.of(System.getProperty("user.home"), ".miniproyectosudoku", "analytics.dat");
+
+    // Event layout: type (3 bits), cell (6), value (3), givens (6), elapsed milliseconds (32)
+    private static final int CELL_SHIFT = 3;
+    private static final int VALUE_SHIFT = 9;
+    private static final int GIVENS_SHIFT = 12;
+    private static final int ELAPSED_SHIFT = 18;
+    private static final long MAX_ELAPSED = 0xFFFFFFFFL;
+
+    private static final int BATCH = 4096; // Events drained between clock checks
+    private static final long MIN_IDLE_NANOS = 100_000; // First pause of the consumer when the ring is empty
+    private static final long MAX_IDLE_NANOS = 10_000_000; // Longest pause, reached while the ring stays empty
+
+    private static AnalyticsPipeline defaultPipeline;
+
+    private final EventRing ring;
+    private final StatsTable table = new StatsTable();
+    private final Path file;
+    private final long flushMillis;
+    private Thread consumer;
+    private volatile boolean running;
+    private volatile long consumed; // Events drained, written by the consumer only
+    private volatile int flushes;
+
+    /**
+     * Constructor for AnalyticsPipeline.
+     *
+     * @param file The file the statistics are flushed to
+     * @param capacity The number of events the ring holds, a power of two
+     * @param flushMillis The time between flushes, in milliseconds
+     */
+    public AnalyticsPipeline(Path file, int capacity, long flushMillis) {
+        this.ring = new EventRing(capacity);
+        this.file = file;
+        this.flushMillis = flushMillis;
+    }
+
+    /**
+     * Gets the pipeline shared by the application, writing to {@link #DEFAULT_FILE}.
+     * It is started on first use and flushed when the JVM exits.
+     *
+     * @return The default pipeline
+     */
+    public static synchronized AnalyticsPipeline getDefault() {
+        if (defaultPipeline == null) {
+            defaultPipeline = new AnalyticsPipeline(DEFAULT_FILE, 1 << 14, 30_000);
+            defaultPipeline.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(defaultPipeline::close, "analytics-shutdown"));
+        }
+        return defaultPipeline;
+    }
+
+    /**
+     * Records an event. Safe to call from any thread and does not allocate.
+     * If the consumer has fallen behind and the ring is full, the event is dropped.
+     *
+     * @param seed The seed of the puzzle being played
+     * @param type The event type
+     * @param cell The cell index (row * 6 + col)
+     * @param value The value involved (0-6)
+     * @param givens The number of given cells of the puzzle
+     * @param elapsed The milliseconds since the player's previous event
+     * @return true if the event was recorded, false if it was dropped
+     */
+    public boolean record(long seed, EventType type, int cell, int value, int givens, long elapsed) {
+        long payload = type.ordinal()
+                | (long) cell << CELL_SHIFT
+                | (long) value << VALUE_SHIFT
+                | (long) givens << GIVENS_SHIFT
+                | Math.min(Math.max(elapsed, 0), MAX_ELAPSED) << ELAPSED_SHIFT;
+        return ring.offer(seed, payload);
+    }
+
+    /**
+     * Gets the event type ordinal of a packed event.
+     *
+     * @param payload The packed event
+     * @return The type ordinal
+     */
+    static int type(long payload) {
+        return (int) (payload & 0x7);
+    }
+
+    /**
+     * Gets the cell index of a packed event.
+     *
+     * @param payload The packed event
+     * @return The cell index
+     */
+    static int cell(long payload) {
+        return (int) (payload >>> CELL_SHIFT & 0x3F);
+    }
+
+    /**
+     * Gets the number of given cells of the puzzle of a packed event.
+     *
+     * @param payload The packed event
+     * @return The number of given cells
+     */
+    static int givens(long payload) {
+        return (int) (payload >>> GIVENS_SHIFT & 0x3F);
+    }
+
+    /**
+     * Gets the milliseconds since the player's previous event of a packed event.
+     *
+     * @param payload The packed event
+     * @return The elapsed milliseconds
+     */
+    static long elapsed(long payload) {
+        return payload >>> ELAPSED_SHIFT & MAX_ELAPSED;
+    }
+
+    /**
+     * Starts the consumer thread.
+     */
+    public synchronized void start() {
+        if (consumer != null) {
+            return;
+        }
+        running = true;
+        consumer = new Thread(this::consume, "analytics");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    /**
+     * Drains the ring until the pipeline is closed, flushing periodically.
+     * While the ring stays empty the pause between checks doubles, up to
+     * a few milliseconds or the time left before the next flush, so an idle
+     * application does not keep a core busy; it is reset when events arrive.
+     */
+    private void consume() {
+        long nextFlush = System.currentTimeMillis() + flushMillis;
+        long idleNanos = MIN_IDLE_NANOS;
+        while (running) {
+            int drained = ring.drain(table, BATCH);
+            consumed += drained;
+            long now = System.currentTimeMillis();
+            if (now >= nextFlush) {
+                flush(now);
+                nextFlush = now + flushMillis;
+            }
+            if (drained > 0) {
+                idleNanos = MIN_IDLE_NANOS;
+            } else {
+                LockSupport.parkNanos(Math.min(idleNanos, Math.max(nextFlush - now, 0) * 1_000_000 + MIN_IDLE_NANOS));
+                idleNanos = Math.min(idleNanos * 2, MAX_IDLE_NANOS);
+            }
+        }
+
+        // Drain what producers recorded before the pipeline closed
+        int drained;
+        while ((drained = ring.drain(table, BATCH)) > 0) {
+            consumed += drained;
+        }
+        flush(System.currentTimeMillis());
+    }
+
+    /**
+     * Appends the puzzle and difficulty totals since the previous flush to the file.
+     * If the file cannot be written the totals are kept, and the next flush writes them.
+     *
+     * @param now The current time, in epoch milliseconds
+     */
+    private void flush(long now) {
+        if (table.isEmpty()) {
+            return;
+        }
+        try {
+            StatsFile.append(file, now, table.getPuzzles(), table.getDifficulties());
+            table.clear();
+            flushes++;
+        } catch (IOException e) {
+            System.err.println("Could not write analytics to " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stops the consumer after it has drained the ring and flushed the last totals.
+     */
+    @Override
+    public synchronized void close() {
+        if (consumer == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        consumer = null;
+    }
+
+    /**
+     * Gets the number of events the consumer has aggregated.
+     *
+     * @return The consumed event count
+     */
+    public long getConsumed() {
+        return consumed;
+    }
+
+    /**
+     * Gets the number of events dropped because the consumer fell behind.
+     *
+     * @return The dropped event count
+     */
+    public long getDropped() {
+        return ring.getDropped();
+    }
+
+    /**
+     * Gets the number of flushes written to the file.
+     *
+     * @return The flush count
+     */
+    public int getFlushes() {
+        return flushes;
+    }
+
+    /**
+     * Gets the file the statistics are flushed to.
+     *
+     * @return The file
+     */
+    public Path getFile() {
+        return file;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.miniproyectosudoku.model.analytics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free ring buffer of events, written by any number of game threads
+ * and read by a single consumer. Events are two longs stored in
+ * preallocated columns, so offering one does not allocate.
+ * When the consumer falls behind, new events are dropped and counted
+ * instead of blocking the game.
+ * @version 1.0
+ */
+final class EventRing {
+
+    private final int capacity;
+    private final int mask;
+    private final long[] seeds; // Puzzle seed of each slot
+    private final long[] payloads; // Packed event of each slot
+    private final AtomicLongArray published; // Per slot: sequence + 1 once the slot is written
+    private final AtomicLong claimed = new AtomicLong(); // Next sequence to hand to a producer
+    private volatile long consumed; // Next sequence the consumer reads
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Constructor for EventRing.
+     *
+     * @param capacity The number of slots, a power of two
+     */
+    EventRing(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.seeds = new long[capacity];
+        this.payloads = new long[capacity];
+        this.published = new AtomicLongArray(capacity);
+    }
+
+    /**
+     * Offers an event. Safe to call from any thread.
+     *
+     * @param seed The puzzle seed
+     * @param payload The packed event
+     * @return true if the event was queued, false if the ring was full
+     */
+    boolean offer(long seed, long payload) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed >= capacity) {
+                dropped.increment();
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        int slot = (int) sequence & mask;
+        seeds[slot] = seed;
+        payloads[slot] = payload;
+        published.lazySet(slot, sequence + 1); // Release: the columns are visible before the slot is
+        return true;
+    }
+
+    /**
+     * Hands queued events to the stats table, in order. Only the consumer thread may call this.
+     *
+     * @param table The stats table receiving the events
+     * @param max The maximum number of events to drain
+     * @return The number of events drained
+     */
+    int drain(StatsTable table, int max) {
+        long next = consumed;
+        int drained = 0;
+        while (drained < max) {
+            int slot = (int) next & mask;
+            if (published.get(slot) != next + 1) {
+                break;
+            }
+            table.add(seeds[slot], payloads[slot]);
+            next++;
+            drained++;
+        }
+        consumed = next;
+        return drained;
+    }
+
+    /**
+     * Gets the number of events dropped because the ring was full.
+     *
+     * @return The dropped event count
+     */
+    long getDropped() {
+        return dropped.sum();
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.miniproyectosudoku.model.analytics;
+
+/**
+ * Kinds of player events recorded by the analytics pipeline.
+ * @version 1.0
+ */
+public enum EventType {
+    MOVE,     // A value was placed
+    CLEAR,    // A cell was cleared
+    REJECTED, // A move broke the rules and was not made
+    INVALID,  // A value was checked with isValidMove and would break the rules
+    HINT      // A hint was requested
+}
@@ -0,0 +1,80 @@
+package com.example.miniproyectosudoku.model.analytics;
+
+import com.example.miniproyectosudoku.model.puzzle.Puzzle.Difficulty;
+
+/**
+ * Totals of the events of one puzzle, or of every puzzle of one difficulty.
+ * For every event type it counts the events and the milliseconds players spent
+ * before them, and it counts the failed attempts (rejected or invalid) per cell.
+ * The pipeline keeps the totals since its previous flush; readers of a
+ * {@link StatsFile} add those up with {@link #add(PuzzleStats)}.
+ * Only touched by one thread at a time.
+ * @version 1.0
+ */
+final class PuzzleStats {
+
+    static final int TYPES = EventType.values().length;
+    static final int CELLS = 36;
+
+    final long key; // Puzzle seed, or difficulty ordinal for difficulty totals
+    final Difficulty difficulty;
+    final long[] counts = new long[TYPES]; // Events per type
+    final long[] millis = new long[TYPES]; // Time before the events of each type
+    final int[] failures = new int[CELLS]; // Rejected or invalid attempts per cell
+
+    /**
+     * Constructor for PuzzleStats.
+     *
+     * @param key The puzzle seed, or the difficulty ordinal
+     * @param difficulty The difficulty of the puzzle
+     */
+    PuzzleStats(long key, Difficulty difficulty) {
+        this.key = key;
+        this.difficulty = difficulty;
+    }
+
+    /**
+     * Adds one event to the totals.
+     *
+     * @param type The event type ordinal
+     * @param cell The cell index
+     * @param elapsed The milliseconds since the player's previous event
+     */
+    void add(int type, int cell, long elapsed) {
+        counts[type]++;
+        millis[type] += elapsed;
+        if (type == EventType.REJECTED.ordinal() || type == EventType.INVALID.ordinal()) {
+            failures[cell]++;
+        }
+    }
+
+    /**
+     * Adds the totals of another row with the same key, such as a later flush of the same puzzle.
+     *
+     * @param other The totals to add
+     */
+    void add(PuzzleStats other) {
+        for (int type = 0; type < TYPES; type++) {
+            counts[type] += other.counts[type];
+            millis[type] += other.millis[type];
+        }
+        for (int cell = 0; cell < CELLS; cell++) {
+            failures[cell] += other.failures[cell];
+        }
+    }
+
+    /**
+     * Gets the cell with the most failed attempts.
+     *
+     * @return The cell index, or -1 if no attempt failed
+     */
+    int getHardestCell() {
+        int hardest = -1;
+        for (int cell = 0; cell < CELLS; cell++) {
+            if (failures[cell] > 0 && (hardest < 0 || failures[cell] > failures[hardest])) {
+                hardest = cell;
+            }
+        }
+        return hardest;
+    }
+}
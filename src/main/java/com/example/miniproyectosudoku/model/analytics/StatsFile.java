@@ -0,0 +1,186 @@
+package com.example.miniproyectosudoku.model.analytics;
+
+import com.example.miniproyectosudoku.model.puzzle.Puzzle.Difficulty;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only file of analytics snapshots. Every flush appends a block with two
+ * tables, the puzzles played and the difficulty totals since the previous flush.
+ * Tables are stored column by column (all keys, then all difficulties, then each
+ * counter), so a reader interested in one metric scans one contiguous run.
+ * Rows hold deltas: the rows of a key add up to its totals over every run.
+ * Usage: {@code StatsFile [file]} prints a summary of a file.
+ * @version 1.0
+ */
+public final class StatsFile {
+
+    private static final int MAGIC = 0x53444B41; // "SDKA"
+    private static final byte PUZZLES = 'P';
+    private static final byte DIFFICULTIES = 'D';
+
+    /**
+     * Private constructor, only static methods are provided.
+     */
+    private StatsFile() {
+    }
+
+    /**
+     * Appends a block to the file, creating the file and its directory if needed.
+     *
+     * @param file The file
+     * @param timestamp The time of the snapshot, in epoch milliseconds
+     * @param puzzles The puzzle totals since the previous snapshot
+     * @param difficulties The difficulty totals since the previous snapshot
+     * @throws IOException if the file cannot be written
+     */
+    static void append(Path file, long timestamp, Collection<PuzzleStats> puzzles, PuzzleStats[] difficulties)
+            throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)))) {
+            out.writeInt(MAGIC);
+            out.writeLong(timestamp);
+            writeTable(out, PUZZLES, puzzles);
+            writeTable(out, DIFFICULTIES, List.of(difficulties));
+        }
+    }
+
+    /**
+     * Writes one table, column by column.
+     *
+     * @param out The output
+     * @param tag The table tag
+     * @param rows The rows
+     * @throws IOException if the output fails
+     */
+    private static void writeTable(DataOutputStream out, byte tag, Collection<PuzzleStats> rows) throws IOException {
+        out.writeByte(tag);
+        out.writeInt(rows.size());
+        for (PuzzleStats row : rows) {
+            out.writeLong(row.key);
+        }
+        for (PuzzleStats row : rows) {
+            out.writeByte(row.difficulty.ordinal());
+        }
+        for (int type = 0; type < PuzzleStats.TYPES; type++) {
+            for (PuzzleStats row : rows) {
+                out.writeLong(row.counts[type]);
+            }
+            for (PuzzleStats row : rows) {
+                out.writeLong(row.millis[type]);
+            }
+        }
+        for (int cell = 0; cell < PuzzleStats.CELLS; cell++) {
+            for (PuzzleStats row : rows) {
+                out.writeInt(row.failures[cell]);
+            }
+        }
+    }
+
+    /**
+     * Reads one table written by {@link #writeTable}.
+     *
+     * @param in The input
+     * @return The rows
+     * @throws IOException if the input fails
+     */
+    private static List<PuzzleStats> readTable(DataInputStream in) throws IOException {
+        in.readByte();
+        int size = in.readInt();
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = in.readLong();
+        }
+        List<PuzzleStats> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            rows.add(new PuzzleStats(keys[i], Difficulty.values()[in.readByte()]));
+        }
+        for (int type = 0; type < PuzzleStats.TYPES; type++) {
+            for (PuzzleStats row : rows) {
+                row.counts[type] = in.readLong();
+            }
+            for (PuzzleStats row : rows) {
+                row.millis[type] = in.readLong();
+            }
+        }
+        for (int cell = 0; cell < PuzzleStats.CELLS; cell++) {
+            for (PuzzleStats row : rows) {
+                row.failures[cell] = in.readInt();
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Reads a file and prints the totals of each difficulty over every snapshot,
+     * the number of puzzles seen and the cells players fail the most.
+     *
+     * @param args Optionally the file (default: the default pipeline's file)
+     * @throws IOException if the file cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        Path file = args.length > 0 ? Path.of(args[0]) : AnalyticsPipeline.DEFAULT_FILE;
+        Map<Long, PuzzleStats> puzzles = new LinkedHashMap<>();
+        PuzzleStats[] difficulties = new PuzzleStats[Difficulty.values().length];
+        for (Difficulty difficulty : Difficulty.values()) {
+            difficulties[difficulty.ordinal()] = new PuzzleStats(difficulty.ordinal(), difficulty);
+        }
+        int blocks = 0;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            while (true) {
+                int magic;
+                try {
+                    magic = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                if (magic != MAGIC) {
+                    throw new IOException("Not an analytics file: " + file);
+                }
+                in.readLong();
+                for (PuzzleStats row : readTable(in)) {
+                    PuzzleStats total = puzzles.putIfAbsent(row.key, row);
+                    if (total != null) {
+                        total.add(row);
+                    }
+                }
+                for (PuzzleStats row : readTable(in)) {
+                    difficulties[row.difficulty.ordinal()].add(row);
+                }
+                blocks++;
+            }
+        }
+
+        System.out.printf("%s: %d snapshots, %d puzzles%n", file, blocks, puzzles.size());
+        for (PuzzleStats stats : difficulties) {
+            long moves = stats.counts[EventType.MOVE.ordinal()];
+            int hardest = stats.getHardestCell();
+            System.out.printf("%-6s moves=%d (%.0f ms/move) clears=%d rejected=%d invalid=%d hints=%d hardest=%s%n",
+                    stats.difficulty, moves,
+                    moves == 0 ? 0.0 : (double) stats.millis[EventType.MOVE.ordinal()] / moves,
+                    stats.counts[EventType.CLEAR.ordinal()],
+                    stats.counts[EventType.REJECTED.ordinal()],
+                    stats.counts[EventType.INVALID.ordinal()],
+                    stats.counts[EventType.HINT.ordinal()],
+                    hardest < 0 ? "-" : (hardest / 6 + 1) + "," + (hardest % 6 + 1) + " (" + stats.failures[hardest] + ")");
+        }
+    }
+}
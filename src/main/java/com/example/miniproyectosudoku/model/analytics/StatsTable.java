@@ -0,0 +1,90 @@
+package com.example.miniproyectosudoku.model.analytics;
+
+import com.example.miniproyectosudoku.model.puzzle.Puzzle.Difficulty;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Incremental per-puzzle and per-difficulty statistics, fed by the consumer
+ * thread as events are drained from the ring. Only holds what was added since
+ * the last flush, so a flush writes deltas that add up across flushes and runs,
+ * and the table does not grow with every puzzle ever played.
+ * @version 1.0
+ */
+final class StatsTable {
+
+    private final Map<Long, PuzzleStats> puzzles = new HashMap<>();
+    private final PuzzleStats[] difficulties = new PuzzleStats[Difficulty.values().length];
+    private PuzzleStats last; // Puzzle of the previous event; a game sends its events in runs
+
+    /**
+     * Constructor for StatsTable.
+     */
+    StatsTable() {
+        clear();
+    }
+
+    /**
+     * Adds a packed event to the totals of its puzzle and of its difficulty.
+     *
+     * @param seed The puzzle seed
+     * @param payload The packed event
+     */
+    void add(long seed, long payload) {
+        PuzzleStats stats = last;
+        if (stats == null || stats.key != seed) {
+            stats = puzzles.get(seed);
+            if (stats == null) {
+                stats = new PuzzleStats(seed, Difficulty.of(AnalyticsPipeline.givens(payload)));
+                puzzles.put(seed, stats);
+            }
+            last = stats;
+        }
+
+        int type = AnalyticsPipeline.type(payload);
+        int cell = AnalyticsPipeline.cell(payload);
+        long elapsed = AnalyticsPipeline.elapsed(payload);
+        stats.add(type, cell, elapsed);
+        difficulties[stats.difficulty.ordinal()].add(type, cell, elapsed);
+    }
+
+    /**
+     * Checks whether any event was added since the last {@link #clear()}.
+     *
+     * @return true if there is nothing to flush
+     */
+    boolean isEmpty() {
+        return puzzles.isEmpty();
+    }
+
+    /**
+     * Gets the totals of the puzzles played since the last {@link #clear()}.
+     *
+     * @return The puzzle totals
+     */
+    Collection<PuzzleStats> getPuzzles() {
+        return puzzles.values();
+    }
+
+    /**
+     * Gets the totals of every difficulty since the last {@link #clear()}, indexed by ordinal.
+     *
+     * @return The difficulty totals
+     */
+    PuzzleStats[] getDifficulties() {
+        return difficulties;
+    }
+
+    /**
+     * Forgets every total, once they have been flushed.
+     */
+    void clear() {
+        puzzles.clear();
+        last = null;
+        for (Difficulty difficulty : Difficulty.values()) {
+            difficulties[difficulty.ordinal()] = new PuzzleStats(difficulty.ordinal(), difficulty);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.miniproyectosudoku.model.arena;
+
+import com.example.miniproyectosudoku.model.board.Board;
+import com.example.miniproyectosudoku.model.board.IBoard;
+import com.example.miniproyectosudoku.model.board.RuleSet;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Flyweight {@link IBoard} over one record of a {@link BoardArena}.
+ * The view holds no board state itself; it reads and writes the record it is
+ * positioned on, and can be moved between records to serve many games.
+ * Uses the classic rules. Candidates are computed from the cell's peers
+ * when asked for, instead of being stored.
+ * @version 1.0
+ */
+public class ArenaBoard implements IBoard {
+
+    private static final int SIZE = 6;
+    private static final int CELLS = SIZE * SIZE;
+
+    private final BoardArena arena;
+    private final RuleSet rules = RuleSet.classic();
+    private Board generator; // Heap board used only to generate puzzles, created on first use
+    private ByteBuffer slab;
+    private int base;
+    private int slot;
+
+    /**
+     * Constructor used by the arena.
+     *
+     * @param arena The arena holding the records
+     */
+    ArenaBoard(BoardArena arena) {
+        this.arena = arena;
+    }
+
+    /**
+     * Positions the view on another record.
+     *
+     * @param slot The slot to view
+     * @return This view
+     */
+    public ArenaBoard moveTo(int slot) {
+        this.slot = slot;
+        this.slab = arena.slab(slot);
+        this.base = arena.offset(slot);
+        return this;
+    }
+
+    /**
+     * Gets the slot the view is positioned on.
+     *
+     * @return The slot
+     */
+    public int getSlot() {
+        return slot;
+    }
+
+    @Override
+    public int getValue(int row, int col) {
+        return slab.get(base + BoardArena.CELLS_OFFSET + row * SIZE + col);
+    }
+
+    @Override
+    public void setValue(int row, int col, int value) {
+        slab.put(base + BoardArena.CELLS_OFFSET + row * SIZE + col, (byte) value);
+    }
+
+    /**
+     * Validates a move against the cell's peers in the classic peer table,
+     * reading the values straight from the record.
+     *
+     * @param row The row index
+     * @param col The column index
+     * @param value The value to validate
+     * @return true if the move is valid, false otherwise
+     */
+    @Override
+    public boolean isValidMove(int row, int col, int value) {
+        return (peerValues(row, col) & (1 << value)) == 0;
+    }
+
+    @Override
+    public int getCandidates(int row, int col) {
+        if (getValue(row, col) != 0) {
+            return 0;
+        }
+        return ~peerValues(row, col) & 0b1111110;
+    }
+
+    /**
+     * Collects the values of a cell's peers as a bitmask.
+     *
+     * @param row The row index
+     * @param col The column index
+     * @return A mask with bit v set when a peer holds value v
+     */
+    private int peerValues(int row, int col) {
+        int cells = base + BoardArena.CELLS_OFFSET;
+        int seen = 0;
+        for (int peer : rules.getPeers(row * SIZE + col)) {
+            seen |= 1 << slab.get(cells + peer);
+        }
+        return seen & ~1; // Empty cells are not values
+    }
+
+    @Override
+    public void generateInitialNumbers() {
+        generateInitialNumbers(new java.util.Random().nextLong());
+    }
+
+    /**
+     * Generates a puzzle with a heap board and copies it into the record.
+     * The same seed gives the same puzzle as {@link Board#generateInitialNumbers(long)}.
+     *
+     * @param seed The seed for the random generator
+     */
+    @Override
+    public void generateInitialNumbers(long seed) {
+        if (generator == null) {
+            generator = new Board();
+        }
+        generator.generateInitialNumbers(seed);
+        load(generator.toCells(false), generator.toCells(true), seed);
+    }
+
+    /**
+     * Loads a puzzle into the record. Non-zero puzzle cells become the initial cells.
+     *
+     * @param puzzle The puzzle cells (0 for empty), row-major
+     * @param solution The solution cells, row-major
+     * @param seed The seed the puzzle was generated from
+     */
+    public void load(byte[] puzzle, byte[] solution, long seed) {
+        long initial = 0;
+        for (int cell = 0; cell < CELLS; cell++) {
+            slab.put(base + BoardArena.CELLS_OFFSET + cell, puzzle[cell]);
+            slab.put(base + BoardArena.SOLUTION_OFFSET + cell, solution[cell]);
+            if (puzzle[cell] != 0) {
+                initial |= 1L << cell;
+            }
+        }
+        slab.putLong(base + BoardArena.INITIAL_OFFSET, initial);
+        slab.putLong(base + BoardArena.SEED_OFFSET, seed);
+    }
+
+    @Override
+    public long getSeed() {
+        return slab.getLong(base + BoardArena.SEED_OFFSET);
+    }
+
+    @Override
+    public int[][] getBoard() {
+        int[][] grid = new int[SIZE][SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            for (int j = 0; j < SIZE; j++) {
+                grid[i][j] = getValue(i, j);
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Checks if a cell is part of the initial puzzle (non-editable).
+     *
+     * @param row The row index
+     * @param col The column index
+     * @return true if the cell is initial, false otherwise
+     */
+    public boolean isInitialCell(int row, int col) {
+        return (slab.getLong(base + BoardArena.INITIAL_OFFSET) & (1L << (row * SIZE + col))) != 0;
+    }
+
+    /**
+     * Provides a hint: the solution value of the first empty cell.
+     *
+     * @return An array [row, col, correctValue] or null if no empty cells
+     */
+    public int[] getHint() {
+        for (int cell = 0; cell < CELLS; cell++) {
+            if (slab.get(base + BoardArena.CELLS_OFFSET + cell) == 0) {
+                return new int[]{cell / SIZE, cell % SIZE, slab.get(base + BoardArena.SOLUTION_OFFSET + cell)};
+            }
+        }
+        return null;
+    }
+}
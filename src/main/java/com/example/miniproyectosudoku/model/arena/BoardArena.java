@@ -0,0 +1,156 @@
+package com.example.miniproyectosudoku.model.arena;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+
+/**
+ * Off-heap storage for many boards. Boards live in fixed-size records inside
+ * direct {@link ByteBuffer} slabs, so resident games add no objects to the
+ * heap and nothing for the garbage collector to trace. Free records are kept
+ * in a free-list threaded through the records themselves, and a bitset of
+ * allocated slots guards the free-list against bad or repeated frees.
+ * <p>
+ * Record layout: 36 cell bytes, 36 solution bytes, the initial-cell mask
+ * (long) and the puzzle seed (long), padded to {@link #RECORD_SIZE} bytes.
+ * Allocation is thread-safe; a single record must only be used by one thread at a time.
+ * @version 1.0
+ */
+public class BoardArena {
+
+    /**
+     * Size in bytes of one board record.
+     */
+    public static final int RECORD_SIZE = 96;
+
+    static final int CELLS_OFFSET = 0;
+    static final int SOLUTION_OFFSET = 36;
+    static final int INITIAL_OFFSET = 72;
+    static final int SEED_OFFSET = 80;
+
+    private static final int RECORDS_PER_SLAB = Integer.MAX_VALUE / RECORD_SIZE;
+    private static final int NO_SLOT = -1;
+
+    private final ByteBuffer[] slabs;
+    private final int capacity;
+    private final BitSet allocated; // Bit set for every slot in use
+    private int freeHead; // First free slot, or NO_SLOT when full
+    private int used;
+
+    /**
+     * Constructor that reserves off-heap memory for a number of boards.
+     * The JVM limits direct memory with -XX:MaxDirectMemorySize.
+     *
+     * @param capacity The maximum number of resident boards
+     */
+    public BoardArena(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.allocated = new BitSet(capacity);
+        int slabCount = (capacity + RECORDS_PER_SLAB - 1) / RECORDS_PER_SLAB;
+        this.slabs = new ByteBuffer[slabCount];
+        for (int i = 0; i < slabCount; i++) {
+            int records = Math.min(RECORDS_PER_SLAB, capacity - i * RECORDS_PER_SLAB);
+            slabs[i] = ByteBuffer.allocateDirect(records * RECORD_SIZE);
+        }
+
+        // Every slot starts free, each pointing to the next one
+        for (int slot = 0; slot < capacity; slot++) {
+            slab(slot).putInt(offset(slot), slot + 1 < capacity ? slot + 1 : NO_SLOT);
+        }
+        freeHead = 0;
+    }
+
+    /**
+     * Reserves a record for a new board. The record starts empty.
+     *
+     * @return The slot of the record
+     * @throws IllegalStateException if the arena is full
+     */
+    public synchronized int allocate() {
+        if (freeHead == NO_SLOT) {
+            throw new IllegalStateException("Board arena is full (" + capacity + " boards)");
+        }
+        int slot = freeHead;
+        ByteBuffer slab = slab(slot);
+        int offset = offset(slot);
+        freeHead = slab.getInt(offset);
+        for (int i = 0; i < RECORD_SIZE; i += Long.BYTES) {
+            slab.putLong(offset + i, 0L);
+        }
+        allocated.set(slot);
+        used++;
+        return slot;
+    }
+
+    /**
+     * Releases a record so it can be reused.
+     *
+     * @param slot The slot of the record
+     * @throws IllegalArgumentException if the slot is out of range or not allocated
+     */
+    public synchronized void free(int slot) {
+        if (slot < 0 || slot >= capacity) {
+            throw new IllegalArgumentException("Slot " + slot + " is outside the arena (" + capacity + " boards)");
+        }
+        if (!allocated.get(slot)) {
+            throw new IllegalArgumentException("Slot " + slot + " is not allocated");
+        }
+        allocated.clear(slot);
+        slab(slot).putInt(offset(slot), freeHead);
+        freeHead = slot;
+        used--;
+    }
+
+    /**
+     * Creates a flyweight board view positioned on a slot.
+     * The view can be moved to other slots with {@link ArenaBoard#moveTo(int)}.
+     *
+     * @param slot The slot to view
+     * @return The board view
+     */
+    public ArenaBoard view(int slot) {
+        ArenaBoard board = new ArenaBoard(this);
+        board.moveTo(slot);
+        return board;
+    }
+
+    /**
+     * Gets the slab holding a slot.
+     *
+     * @param slot The slot
+     * @return The slab buffer
+     */
+    ByteBuffer slab(int slot) {
+        return slabs[slot / RECORDS_PER_SLAB];
+    }
+
+    /**
+     * Gets the byte offset of a slot inside its slab.
+     *
+     * @param slot The slot
+     * @return The offset of the record
+     */
+    int offset(int slot) {
+        return (slot % RECORDS_PER_SLAB) * RECORD_SIZE;
+    }
+
+    /**
+     * Gets the maximum number of boards.
+     *
+     * @return The capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the number of allocated boards.
+     *
+     * @return The number of records in use
+     */
+    public synchronized int getUsed() {
+        return used;
+    }
+}
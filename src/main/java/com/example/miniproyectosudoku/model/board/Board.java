@@ -1,22 +1,56 @@
 package com.example.miniproyectosudoku.model.board;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Random;
-import java.util.Set;
 
 /**
- * Represents a 6x6 Sudoku board with 2x3 blocks.
+ * Represents a 6x6 Sudoku board. The classic rules use 2x3 blocks; variants
+ * (diagonal, jigsaw, killer) are supported by passing a different {@link RuleSet}.
+ * Cells are stored in a flat array indexed by {@code row * 6 + col}.
  * Implements board generation using backtracking algorithm and validation logic.
  * @version 1.0
  */
 public class Board implements IBoard {
 
     private final int SIZE = 6;
-    private final int[][] board = new int[SIZE][SIZE];
-    private final int[][] solution = new int[SIZE][SIZE]; // Stores the complete solution
-    private final HashSet<String> initialCells = new HashSet<>(); // Tracks initial (non-editable) cells
+    private final int CELLS = SIZE * SIZE;
+    private final byte[] board = new byte[CELLS];
+    private final byte[] solution = new byte[CELLS]; // Stores the complete solution
+    private long initialCells; // Bit i set when cell i is part of the initial (non-editable) puzzle
+    private final int[] candidates = new int[CELLS]; // Bit v set when value v can still go in the cell
+    private final RuleSet rules; // Units and peer tables the board is validated against
+    private final int[] unitCount; // Occurrences of value v in unit u, at u * (SIZE + 1) + v
+    private int filled; // Number of non-empty cells
+    private long seed; // Seed of the last generated puzzle
+    private Random random = new Random(); // Source of randomness for generation, seeded per puzzle
+
+    /**
+     * Constructor that starts with an empty board using the classic rules.
+     */
+    public Board() {
+        this(RuleSet.classic());
+    }
+
+    /**
+     * Constructor that starts with an empty board using the given rules.
+     *
+     * @param rules The rule set (classic or a variant)
+     */
+    public Board(RuleSet rules) {
+        this.rules = rules;
+        this.unitCount = new int[rules.getUnitCount() * (SIZE + 1)];
+        rebuildCandidates();
+    }
+
+    /**
+     * Gets the rules this board is validated against.
+     *
+     * @return The rule set
+     */
+    public RuleSet getRules() {
+        return rules;
+    }
 
     /**
      * Gets the value at a specific cell.
@@ -27,7 +61,7 @@ public class Board implements IBoard {
      */
     @Override
     public int getValue(int row, int col) {
-        return board[row][col];
+        return board[row * SIZE + col];
     }
 
     /**
@@ -39,145 +73,255 @@ public class Board implements IBoard {
      */
     @Override
     public void setValue(int row, int col, int value) {
-        board[row][col] = value;
+        int cell = row * SIZE + col;
+        int previous = board[cell];
+        if (previous == value) {
+            return;
+        }
+
+        board[cell] = (byte) value;
+        if (previous != 0) {
+            count(cell, previous, -1);
+            filled--;
+        }
+        if (value != 0) {
+            count(cell, value, 1);
+            filled++;
+        }
+        updatePeerCandidates(cell);
     }
 
     /**
-     * Gets the current board state.
+     * Gets the seed the current puzzle was generated from.
      *
-     * @return A 2D array representing the board
+     * @return The seed of the last generated puzzle
      */
     @Override
-    public int[][] getBoard() {
-        return board;
+    public long getSeed() {
+        return seed;
     }
 
     /**
-     * Validates if a move is valid according to Sudoku rules.
+     * Gets the candidate values (pencil marks) of a cell as a bitmask.
+     * Bit v is set when value v does not appear in any unit containing the cell.
+     * Killer cage sums are not reflected here; they are checked by {@link #isValidMove}.
      *
-     * @param row The row index
-     * @param col The column index
-     * @param value The value to validate
-     * @return true if the move is valid, false otherwise
+     * @param row The row index (0-5)
+     * @param col The column index (0-5)
+     * @return The candidate bitmask, or 0 if the cell is filled
      */
     @Override
-    public boolean isValidMove(int row, int col, int value) {
-        // Validate row
-        for (int c = 0; c < SIZE; c++) {
-            if (c != col && board[row][c] == value) {
-                return false;
+    public int getCandidates(int row, int col) {
+        return candidates[row * SIZE + col];
+    }
+
+    /**
+     * Adjusts the unit counters for a value placed in or removed from a cell.
+     *
+     * @param cell The cell index
+     * @param value The value (1-6)
+     * @param delta 1 when the value is placed, -1 when it is removed
+     */
+    private void count(int cell, int value, int delta) {
+        for (int unit : rules.getCellUnits(cell)) {
+            unitCount[unit * (SIZE + 1) + value] += delta;
+        }
+    }
+
+    /**
+     * Recomputes the candidates of a cell and of its peers,
+     * which are the only cells affected by a change in that cell.
+     *
+     * @param cell The index of the changed cell
+     */
+    private void updatePeerCandidates(int cell) {
+        updateCandidates(cell);
+        for (int peer : rules.getPeers(cell)) {
+            updateCandidates(peer);
+        }
+    }
+
+    /**
+     * Recomputes the candidate bitmask of a single cell from the unit counters.
+     *
+     * @param cell The cell index
+     */
+    private void updateCandidates(int cell) {
+        int mask = 0;
+        if (board[cell] == 0) {
+            int[] units = rules.getCellUnits(cell);
+            for (int v = 1; v <= SIZE; v++) {
+                int occurrences = 0;
+                for (int unit : units) {
+                    occurrences += unitCount[unit * (SIZE + 1) + v];
+                }
+                if (occurrences == 0) {
+                    mask |= 1 << v;
+                }
             }
         }
+        candidates[cell] = mask;
+    }
 
-        // Validate column
-        for (int r = 0; r < SIZE; r++) {
-            if (r != row && board[r][col] == value) {
-                return false;
+    /**
+     * Rebuilds the unit counters and every candidate bitmask from the board.
+     * Used after the board has been filled directly, as during generation.
+     */
+    private void rebuildCandidates() {
+        Arrays.fill(unitCount, 0);
+        filled = 0;
+        for (int cell = 0; cell < CELLS; cell++) {
+            if (board[cell] != 0) {
+                count(cell, board[cell], 1);
+                filled++;
             }
         }
 
-        // Validate 2x3 block
-        int startRow = (row / 2) * 2;
-        int startCol = (col / 3) * 3;
-        for (int r = startRow; r < startRow + 2; r++) {
-            for (int c = startCol; c < startCol + 3; c++) {
-                if ((r != row || c != col) && board[r][c] == value) {
-                    return false;
-                }
+        for (int cell = 0; cell < CELLS; cell++) {
+            updateCandidates(cell);
+        }
+    }
+
+    /**
+     * Gets a copy of the current board state.
+     *
+     * @return A 2D array representing the board
+     */
+    @Override
+    public int[][] getBoard() {
+        int[][] grid = new int[SIZE][SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            for (int j = 0; j < SIZE; j++) {
+                grid[i][j] = board[i * SIZE + j];
             }
         }
+        return grid;
+    }
+
+    /**
+     * Checks whether every cell of the board is filled.
+     *
+     * @return true if there are no empty cells, false otherwise
+     */
+    public boolean isFull() {
+        return filled == CELLS;
+    }
+
+    /**
+     * Gets the number of filled cells, kept up to date by every change.
+     *
+     * @return The number of non-empty cells
+     */
+    public int getFilledCount() {
+        return filled;
+    }
+
+    /**
+     * Validates if a move is valid according to Sudoku rules,
+     * checking the cell's peers from the rule set's peer table.
+     *
+     * @param row The row index
+     * @param col The column index
+     * @param value The value to validate
+     * @return true if the move is valid, false otherwise
+     */
+    @Override
+    public boolean isValidMove(int row, int col, int value) {
+        return rules.isValidMove(board, row * SIZE + col, value);
+    }
 
-        return true;
+    /**
+     * Generates initial numbers for the Sudoku puzzle from a fresh random seed.
+     */
+    @Override
+    public void generateInitialNumbers() {
+        generateInitialNumbers(new Random().nextLong());
     }
 
     /**
      * Generates initial numbers for the Sudoku puzzle.
      * First creates a complete valid solution using backtracking,
      * then removes cells to create the puzzle.
+     * The same seed always produces the same puzzle.
+     *
+     * @param seed The seed for the random generator
+     * @throws IllegalStateException if no complete board satisfies the rules
      */
     @Override
-    public void generateInitialNumbers() {
+    public void generateInitialNumbers(long seed) {
+        this.seed = seed;
+        this.random = new Random(seed);
+
         // Clear the board and solution
         clearBoard();
-        initialCells.clear();
+        initialCells = 0;
 
         // Step 1: Generate a complete valid Sudoku solution
-        generateCompleteSolution(0, 0);
+        // Scratch arrays are local so resident boards do not carry them
+        int[] order = new int[CELLS * SIZE]; // Shuffled values to try, SIZE per generation depth
+        if (!generateCompleteSolution(order, 0)) {
+            throw new IllegalStateException("The " + rules + " rules cannot be satisfied by any board");
+        }
 
         // Step 2: Copy solution to board
-        for (int i = 0; i < SIZE; i++) {
-            for (int j = 0; j < SIZE; j++) {
-                board[i][j] = solution[i][j];
-            }
-        }
+        System.arraycopy(solution, 0, board, 0, CELLS);
 
         // Step 3: Remove cells to create puzzle (keep 12-15 cells)
-        Random random = new Random();
-        int cellsToRemove = SIZE * SIZE - (12 + random.nextInt(4)); // Keep 12-15 cells
+        int cellsToRemove = CELLS - (12 + random.nextInt(4)); // Keep 12-15 cells
 
-        // Create list of all positions
-        ArrayList<int[]> positions = new ArrayList<>();
-        for (int i = 0; i < SIZE; i++) {
-            for (int j = 0; j < SIZE; j++) {
-                positions.add(new int[]{i, j});
-            }
+        // Shuffle all positions (same sequence as Collections.shuffle)
+        int[] positions = new int[CELLS];
+        for (int i = 0; i < CELLS; i++) {
+            positions[i] = i;
         }
-        Collections.shuffle(positions);
+        shuffle(positions, 0, CELLS);
 
         // Remove cells
-        int removed = 0;
-        for (int[] pos : positions) {
-            if (removed >= cellsToRemove) break;
-            board[pos[0]][pos[1]] = 0;
-            removed++;
+        for (int i = 0; i < cellsToRemove; i++) {
+            board[positions[i]] = 0;
         }
 
         // Track initial cells (non-zero cells are initial/non-editable)
-        for (int i = 0; i < SIZE; i++) {
-            for (int j = 0; j < SIZE; j++) {
-                if (board[i][j] != 0) {
-                    initialCells.add(i + "," + j);
-                }
+        for (int cell = 0; cell < CELLS; cell++) {
+            if (board[cell] != 0) {
+                initialCells |= 1L << cell;
             }
         }
+
+        rebuildCandidates();
     }
 
     /**
      * Generates a complete valid Sudoku solution using backtracking.
      *
-     * @param row Current row being filled
-     * @param col Current column being filled
+     * @param order Scratch array of shuffled values, SIZE per depth
+     * @param cell Current cell being filled
      * @return true if solution is found, false otherwise
      */
-    private boolean generateCompleteSolution(int row, int col) {
-        // Move to next row if we've filled the current row
-        if (col == SIZE) {
-            row++;
-            col = 0;
-        }
-
+    private boolean generateCompleteSolution(int[] order, int cell) {
         // Base case: all cells filled successfully
-        if (row == SIZE) {
+        if (cell == CELLS) {
             return true;
         }
 
-        // Create shuffled list of numbers 1-6 for randomness
-        ArrayList<Integer> numbers = new ArrayList<>();
-        for (int i = 1; i <= SIZE; i++) {
-            numbers.add(i);
+        // Shuffle numbers 1-6 for randomness, in this depth's slice of the scratch array
+        int start = cell * SIZE;
+        for (int i = 0; i < SIZE; i++) {
+            order[start + i] = i + 1;
         }
-        Collections.shuffle(numbers);
+        shuffle(order, start, SIZE);
 
         // Try each number
-        for (int num : numbers) {
-            if (isValidForSolution(row, col, num)) {
-                solution[row][col] = num;
+        for (int i = start; i < start + SIZE; i++) {
+            int num = order[i];
+            if (rules.isValidMove(solution, cell, num)) {
+                solution[cell] = (byte) num;
 
-                if (generateCompleteSolution(row, col + 1)) {
+                if (generateCompleteSolution(order, cell + 1)) {
                     return true;
                 }
 
-                solution[row][col] = 0; // Backtrack
+                solution[cell] = 0; // Backtrack
             }
         }
 
@@ -185,40 +329,20 @@ public class Board implements IBoard {
     }
 
     /**
-     * Validates if a number can be placed in the solution grid.
+     * Shuffles an array in place, drawing the same random numbers as
+     * {@code Collections.shuffle} so seeds keep producing the same puzzles.
      *
-     * @param row The row index
-     * @param col The column index
-     * @param value The value to validate
-     * @return true if valid, false otherwise
+     * @param values The array holding the range to shuffle
+     * @param offset The start of the range
+     * @param length The length of the range
      */
-    private boolean isValidForSolution(int row, int col, int value) {
-        // Check row
-        for (int c = 0; c < SIZE; c++) {
-            if (solution[row][c] == value) {
-                return false;
-            }
+    private void shuffle(int[] values, int offset, int length) {
+        for (int i = length; i > 1; i--) {
+            int j = offset + random.nextInt(i);
+            int swap = values[offset + i - 1];
+            values[offset + i - 1] = values[j];
+            values[j] = swap;
         }
-
-        // Check column
-        for (int r = 0; r < SIZE; r++) {
-            if (solution[r][col] == value) {
-                return false;
-            }
-        }
-
-        // Check 2x3 block
-        int startRow = (row / 2) * 2;
-        int startCol = (col / 3) * 3;
-        for (int r = startRow; r < startRow + 2; r++) {
-            for (int c = startCol; c < startCol + 3; c++) {
-                if (solution[r][c] == value) {
-                    return false;
-                }
-            }
-        }
-
-        return true;
     }
 
     /**
@@ -229,16 +353,25 @@ public class Board implements IBoard {
      */
     public int[] getHint() {
         // Find first empty cell and return the correct answer from solution
-        for (int i = 0; i < SIZE; i++) {
-            for (int j = 0; j < SIZE; j++) {
-                if (board[i][j] == 0) {
-                    return new int[]{i, j, solution[i][j]};
-                }
+        for (int cell = 0; cell < CELLS; cell++) {
+            if (board[cell] == 0) {
+                return new int[]{cell / SIZE, cell % SIZE, solution[cell]};
             }
         }
         return null; // No empty cells
     }
 
+    /**
+     * Gets the value of a cell in the solution.
+     *
+     * @param row The row index
+     * @param col The column index
+     * @return The solution value of the cell
+     */
+    public int getSolution(int row, int col) {
+        return solution[row * SIZE + col];
+    }
+
     /**
      * Checks if a cell is part of the initial puzzle (non-editable).
      *
@@ -247,7 +380,7 @@ public class Board implements IBoard {
      * @return true if the cell is initial, false otherwise
      */
     public boolean isInitialCell(int row, int col) {
-        return initialCells.contains(row + "," + col);
+        return (initialCells & (1L << (row * SIZE + col))) != 0;
     }
 
     /**
@@ -257,25 +390,50 @@ public class Board implements IBoard {
      */
     public HashSet<String> getEmptyCells() {
         HashSet<String> emptyCells = new HashSet<>();
-        for (int i = 0; i < SIZE; i++) {
-            for (int j = 0; j < SIZE; j++) {
-                if (board[i][j] == 0) {
-                    emptyCells.add(i + "," + j);
-                }
+        for (int cell = 0; cell < CELLS; cell++) {
+            if (board[cell] == 0) {
+                emptyCells.add(cell / SIZE + "," + cell % SIZE);
             }
         }
         return emptyCells;
     }
 
     /**
-     * Clears the entire board.
+     * Loads a previously generated puzzle, given as 36 row-major cell values.
+     * Non-zero cells of the puzzle become the initial (non-editable) cells.
+     *
+     * @param puzzle The puzzle cells (0 for empty)
+     * @param solution The solution cells
+     * @param seed The seed the puzzle was generated from
      */
-    private void clearBoard() {
-        for (int i = 0; i < SIZE; i++) {
-            for (int j = 0; j < SIZE; j++) {
-                board[i][j] = 0;
-                solution[i][j] = 0;
+    public void loadPuzzle(byte[] puzzle, byte[] solution, long seed) {
+        this.seed = seed;
+        initialCells = 0;
+        System.arraycopy(puzzle, 0, board, 0, CELLS);
+        System.arraycopy(solution, 0, this.solution, 0, CELLS);
+        for (int cell = 0; cell < CELLS; cell++) {
+            if (board[cell] != 0) {
+                initialCells |= 1L << cell;
             }
         }
+        rebuildCandidates();
+    }
+
+    /**
+     * Copies the board into 36 row-major cell values.
+     *
+     * @param solutionGrid true to copy the solution, false to copy the current board
+     * @return The cell values
+     */
+    public byte[] toCells(boolean solutionGrid) {
+        return (solutionGrid ? solution : board).clone();
+    }
+
+    /**
+     * Clears the entire board.
+     */
+    private void clearBoard() {
+        Arrays.fill(board, (byte) 0);
+        Arrays.fill(solution, (byte) 0);
     }
-}
\ No newline at end of file
+}
@@ -35,11 +35,35 @@ public interface IBoard {
      */
     boolean isValidMove(int row, int col, int value);
 
+    /**
+     * Gets the candidate values (pencil marks) of a cell as a bitmask.
+     * Bit v is set when value v can still be placed in the cell.
+     *
+     * @param row The row index (0-based)
+     * @param col The column index (0-based)
+     * @return The candidate bitmask, or 0 if the cell is filled
+     */
+    int getCandidates(int row, int col);
+
     /**
      * Generates the initial numbers for the board.
      */
     void generateInitialNumbers();
 
+    /**
+     * Generates the initial numbers for the board deterministically from a seed.
+     *
+     * @param seed The seed for the random generator
+     */
+    void generateInitialNumbers(long seed);
+
+    /**
+     * Gets the seed the current puzzle was generated from.
+     *
+     * @return The seed of the last generated puzzle
+     */
+    long getSeed();
+
     /**
      * Gets the current state of the board.
      *
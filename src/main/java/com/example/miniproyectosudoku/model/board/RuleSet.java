@@ -0,0 +1,464 @@
+package com.example.miniproyectosudoku.model.board;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Set of constraints a Sudoku board must satisfy.
+ * Every constraint is a unit: a group of cells (a row, a column, a block,
+ * a diagonal, an irregular region or a killer cage) whose values must all
+ * be different. Killer cages also carry a target sum.
+ * <p>
+ * Units are precomputed as arrays of cell indices (row * size + col), and each
+ * cell gets a peer table listing every other cell it shares a unit with, so
+ * validation and generation for any variant run the same allocation-free loop
+ * over a flat cell array. The tables are built once per rule set; the classic
+ * rules are a shared constant.
+ * @version 1.0
+ */
+public final class RuleSet {
+
+    private static final int SIZE = 6;
+    private static final RuleSet CLASSIC = new Builder("classic").rows().columns().blocks(2, 3).build();
+
+    private final String name;
+    private final int[][] units; // Cell indices of each unit
+    private final int[][] cellUnits; // Units containing each cell
+    private final int[][] peers; // Indices of every other cell sharing a unit, per cell
+    private final int[][] cages; // Cell indices of each killer cage
+    private final int[] cageSums; // Target sum of each killer cage
+    private final int[][] cellCages; // Killer cages containing each cell
+
+    /**
+     * Constructor used by the builder.
+     *
+     * @param name The name of the rule set
+     * @param units The units of the rule set
+     * @param cages The killer cages
+     * @param cageSums The target sum of each killer cage
+     */
+    private RuleSet(String name, List<int[]> units, List<int[]> cages, List<Integer> cageSums) {
+        this.name = name;
+        this.units = units.toArray(new int[0][]);
+        this.cages = cages.toArray(new int[0][]);
+        this.cageSums = cageSums.stream().mapToInt(Integer::intValue).toArray();
+
+        int cells = SIZE * SIZE;
+        this.cellUnits = new int[cells][];
+        this.cellCages = new int[cells][];
+        this.peers = new int[cells][];
+        for (int cell = 0; cell < cells; cell++) {
+            cellUnits[cell] = containing(this.units, cell);
+            cellCages[cell] = containing(this.cages, cell);
+
+            LinkedHashSet<Integer> cellPeers = new LinkedHashSet<>();
+            for (int unit : cellUnits[cell]) {
+                for (int other : this.units[unit]) {
+                    if (other != cell) {
+                        cellPeers.add(other);
+                    }
+                }
+            }
+            peers[cell] = cellPeers.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * Gets the classic 6x6 rules: rows, columns and 2x3 blocks.
+     *
+     * @return The classic rule set
+     */
+    public static RuleSet classic() {
+        return CLASSIC;
+    }
+
+    /**
+     * Gets the diagonal variant: classic rules plus both main diagonals.
+     *
+     * @return The diagonal rule set
+     */
+    public static RuleSet diagonal() {
+        return new Builder("diagonal").rows().columns().blocks(2, 3).diagonals().build();
+    }
+
+    /**
+     * Gets a jigsaw variant, where irregular regions replace the 2x3 blocks.
+     *
+     * @param regions The region (0-5) of each cell, in row-major order
+     * @return The jigsaw rule set
+     */
+    public static RuleSet jigsaw(int[] regions) {
+        return new Builder("jigsaw").rows().columns().regions(regions).build();
+    }
+
+    /**
+     * Gets a killer variant: classic rules plus cages whose values must be
+     * different and add up to a target sum.
+     *
+     * @param cages The cell indices of each cage
+     * @param sums The target sum of each cage
+     * @return The killer rule set
+     */
+    public static RuleSet killer(int[][] cages, int[] sums) {
+        if (cages.length != sums.length) {
+            throw new IllegalArgumentException(cages.length + " cages but " + sums.length + " sums");
+        }
+        Builder builder = new Builder("killer").rows().columns().blocks(2, 3);
+        for (int i = 0; i < cages.length; i++) {
+            builder.cage(sums[i], cages[i]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Checks whether a value can be placed in a cell of a grid.
+     * The cell's own current value is ignored.
+     *
+     * @param grid The grid to check against, as row-major cell values
+     * @param cell The cell index (row * 6 + col)
+     * @param value The value to validate (1-6)
+     * @return true if no constraint is broken, false otherwise
+     */
+    public boolean isValidMove(byte[] grid, int cell, int value) {
+        for (int peer : peers[cell]) {
+            if (grid[peer] == value) {
+                return false;
+            }
+        }
+
+        for (int cage : cellCages[cell]) {
+            int[] members = cages[cage];
+            int sum = value;
+            int filled = 1;
+            for (int member : members) {
+                if (member != cell) {
+                    int other = grid[member];
+                    if (other != 0) {
+                        sum += other;
+                        filled++;
+                    }
+                }
+            }
+            if (sum > cageSums[cage] || (filled == members.length && sum != cageSums[cage])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the name of the rule set.
+     *
+     * @return The rule set name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of units.
+     *
+     * @return The unit count
+     */
+    public int getUnitCount() {
+        return units.length;
+    }
+
+    /**
+     * Gets the units containing a cell. The array is shared and must not be modified.
+     *
+     * @param cell The cell index
+     * @return The indices of the units containing the cell
+     */
+    int[] getCellUnits(int cell) {
+        return cellUnits[cell];
+    }
+
+    /**
+     * Gets the peers of a cell. The array is shared and must not be modified.
+     *
+     * @param cell The cell index
+     * @return The indices of every other cell sharing a unit with the cell
+     */
+    public int[] getPeers(int cell) {
+        return peers[cell];
+    }
+
+    /**
+     * Finds the groups that contain a cell.
+     *
+     * @param groups The groups of cell indices
+     * @param cell The cell index
+     * @return The indices of the groups containing the cell
+     */
+    private static int[] containing(int[][] groups, int cell) {
+        int[] found = new int[groups.length];
+        int count = 0;
+        for (int g = 0; g < groups.length; g++) {
+            for (int member : groups[g]) {
+                if (member == cell) {
+                    found[count++] = g;
+                    break;
+                }
+            }
+        }
+        return Arrays.copyOf(found, count);
+    }
+
+    /**
+     * Writes the rule set (name, units and killer cages) to a stream,
+     * so it can be rebuilt exactly with {@link #readFrom(DataInputStream)}.
+     *
+     * @param out The destination stream
+     * @throws IOException if writing fails
+     */
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeUTF(name);
+        writeGroups(out, units);
+        writeGroups(out, cages);
+        for (int sum : cageSums) {
+            out.writeByte(sum);
+        }
+    }
+
+    /**
+     * Reads a rule set written with {@link #writeTo(DataOutputStream)}.
+     * The classic rules are read back as the shared classic constant.
+     *
+     * @param in The source stream
+     * @return The rule set
+     * @throws IOException if reading fails or the data does not describe a rule set
+     */
+    public static RuleSet readFrom(DataInputStream in) throws IOException {
+        String name = in.readUTF();
+        List<int[]> units = readGroups(in);
+        List<int[]> cages = readGroups(in);
+        List<Integer> sums = new ArrayList<>();
+        for (int i = 0; i < cages.size(); i++) {
+            sums.add((int) in.readByte());
+        }
+
+        if (cages.isEmpty() && name.equals(CLASSIC.name) && Arrays.deepEquals(units.toArray(), CLASSIC.units)) {
+            return CLASSIC;
+        }
+        return new RuleSet(name, units, cages, sums);
+    }
+
+    /**
+     * Writes groups of cell indices, each as its length followed by its cells.
+     *
+     * @param out The destination stream
+     * @param groups The groups
+     * @throws IOException if writing fails
+     */
+    private static void writeGroups(DataOutputStream out, int[][] groups) throws IOException {
+        out.writeShort(groups.length);
+        for (int[] group : groups) {
+            out.writeByte(group.length);
+            for (int cell : group) {
+                out.writeByte(cell);
+            }
+        }
+    }
+
+    /**
+     * Reads groups written with {@link #writeGroups}, checking that every cell index is on the board.
+     *
+     * @param in The source stream
+     * @return The groups
+     * @throws IOException if reading fails or a cell index is out of range
+     */
+    private static List<int[]> readGroups(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        List<int[]> groups = new ArrayList<>(count);
+        for (int g = 0; g < count; g++) {
+            int[] group = new int[in.readUnsignedByte()];
+            for (int i = 0; i < group.length; i++) {
+                group[i] = in.readUnsignedByte();
+                if (group[i] >= SIZE * SIZE) {
+                    throw new IOException("Corrupt rule set: cell " + group[i] + " is off the board");
+                }
+            }
+            groups.add(group);
+        }
+        return groups;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * Builds a rule set from its units.
+     */
+    public static class Builder {
+        private final String name;
+        private final List<int[]> units = new ArrayList<>();
+        private final List<int[]> cages = new ArrayList<>();
+        private final List<Integer> cageSums = new ArrayList<>();
+
+        /**
+         * Constructor for Builder.
+         *
+         * @param name The name of the rule set
+         */
+        public Builder(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Adds every row as a unit.
+         *
+         * @return This builder
+         */
+        public Builder rows() {
+            for (int r = 0; r < SIZE; r++) {
+                int[] unit = new int[SIZE];
+                for (int c = 0; c < SIZE; c++) {
+                    unit[c] = r * SIZE + c;
+                }
+                units.add(unit);
+            }
+            return this;
+        }
+
+        /**
+         * Adds every column as a unit.
+         *
+         * @return This builder
+         */
+        public Builder columns() {
+            for (int c = 0; c < SIZE; c++) {
+                int[] unit = new int[SIZE];
+                for (int r = 0; r < SIZE; r++) {
+                    unit[r] = r * SIZE + c;
+                }
+                units.add(unit);
+            }
+            return this;
+        }
+
+        /**
+         * Adds rectangular blocks as units.
+         *
+         * @param height The number of rows of a block
+         * @param width The number of columns of a block
+         * @return This builder
+         */
+        public Builder blocks(int height, int width) {
+            for (int startRow = 0; startRow < SIZE; startRow += height) {
+                for (int startCol = 0; startCol < SIZE; startCol += width) {
+                    int[] unit = new int[height * width];
+                    int i = 0;
+                    for (int r = startRow; r < startRow + height; r++) {
+                        for (int c = startCol; c < startCol + width; c++) {
+                            unit[i++] = r * SIZE + c;
+                        }
+                    }
+                    units.add(unit);
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Adds both main diagonals as units.
+         *
+         * @return This builder
+         */
+        public Builder diagonals() {
+            int[] main = new int[SIZE];
+            int[] anti = new int[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                main[i] = i * SIZE + i;
+                anti[i] = i * SIZE + (SIZE - 1 - i);
+            }
+            units.add(main);
+            units.add(anti);
+            return this;
+        }
+
+        /**
+         * Adds irregular regions as units.
+         *
+         * @param regions The region (0-5) of each cell, in row-major order
+         * @return This builder
+         */
+        public Builder regions(int[] regions) {
+            if (regions.length != SIZE * SIZE) {
+                throw new IllegalArgumentException("A region is needed for each of the " + SIZE * SIZE + " cells");
+            }
+            for (int region = 0; region < SIZE; region++) {
+                int[] unit = new int[SIZE];
+                int i = 0;
+                for (int cell = 0; cell < regions.length; cell++) {
+                    if (regions[cell] == region) {
+                        if (i == SIZE) {
+                            throw new IllegalArgumentException("Region " + region + " has more than " + SIZE + " cells");
+                        }
+                        unit[i++] = cell;
+                    }
+                }
+                if (i != SIZE) {
+                    throw new IllegalArgumentException("Region " + region + " has " + i + " cells");
+                }
+                units.add(unit);
+            }
+            return this;
+        }
+
+        /**
+         * Adds a killer cage: its cells must be different and add up to the sum.
+         *
+         * @param sum The target sum of the cage
+         * @param cells The cell indices of the cage
+         * @return This builder
+         * @throws IllegalArgumentException if a cell is off the board or repeated, the cage has
+         *         more than 6 cells, or no set of different values 1-6 adds up to the sum
+         */
+        public Builder cage(int sum, int... cells) {
+            if (cells.length == 0 || cells.length > SIZE) {
+                throw new IllegalArgumentException("A cage has 1 to " + SIZE + " cells, not " + cells.length);
+            }
+            long seen = 0;
+            for (int cell : cells) {
+                if (cell < 0 || cell >= SIZE * SIZE) {
+                    throw new IllegalArgumentException("Cage cell " + cell + " is off the board");
+                }
+                if ((seen & (1L << cell)) != 0) {
+                    throw new IllegalArgumentException("Cage cell " + cell + " is repeated");
+                }
+                seen |= 1L << cell;
+            }
+            // n different values 1-6 add up to between 1 + ... + n and 6 + ... + (7 - n)
+            int min = cells.length * (cells.length + 1) / 2;
+            int max = cells.length * (2 * SIZE + 1 - cells.length) / 2;
+            if (sum < min || sum > max) {
+                throw new IllegalArgumentException("A cage of " + cells.length + " cells cannot add up to " + sum
+                        + " (" + min + " to " + max + ")");
+            }
+
+            int[] cage = cells.clone();
+            units.add(cage);
+            cages.add(cage);
+            cageSums.add(sum);
+            return this;
+        }
+
+        /**
+         * Builds the rule set and its peer tables.
+         *
+         * @return The rule set
+         */
+        public RuleSet build() {
+            return new RuleSet(name, units, cages, cageSums);
+        }
+    }
+}
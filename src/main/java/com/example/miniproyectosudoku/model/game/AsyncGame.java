@@ -0,0 +1,131 @@
+package com.example.miniproyectosudoku.model.game;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Asynchronous facade over an {@link IGame}.
+ * Potentially slow operations (generation, hints, solving) run on an executor
+ * and return a CompletableFuture, so callers such as the UI never block.
+ * Operations submitted through the facade run one at a time, in submission
+ * order, because the wrapped game is not thread-safe. To get results back on
+ * a specific thread, continue the future with an executor, for example
+ * {@code thenAcceptAsync(action, Platform::runLater)} in JavaFX.
+ * @version 1.0
+ */
+public class AsyncGame {
+
+    private final IGame game;
+    private final Executor executor;
+    private CompletableFuture<?> last = CompletableFuture.completedFuture(null); // Tail of the operation queue
+
+    /**
+     * Constructor that runs operations on the default executor.
+     *
+     * @param game The game to wrap
+     */
+    public AsyncGame(IGame game) {
+        this(game, defaultExecutor());
+    }
+
+    /**
+     * Constructor that runs operations on the given executor.
+     *
+     * @param game The game to wrap
+     * @param executor The executor running the operations
+     */
+    public AsyncGame(IGame game, Executor executor) {
+        this.game = game;
+        this.executor = executor;
+    }
+
+    /**
+     * Creates the default executor: one virtual thread per task when the
+     * runtime supports it (Java 21+), otherwise a pool of daemon threads.
+     *
+     * @return The default executor
+     */
+    public static Executor defaultExecutor() {
+        try {
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "async-game");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Starts a new game in the background.
+     *
+     * @return A future completed when the board has been generated
+     */
+    public CompletableFuture<Void> startNewGame() {
+        return submit(game -> {
+            game.startNewGame();
+            return null;
+        });
+    }
+
+    /**
+     * Starts a new game generated from a seed in the background.
+     *
+     * @param seed The seed for puzzle generation
+     * @return A future completed when the board has been generated
+     */
+    public CompletableFuture<Void> startNewGame(long seed) {
+        return submit(game -> {
+            game.startNewGame(seed);
+            return null;
+        });
+    }
+
+    /**
+     * Computes a hint in the background.
+     *
+     * @return A future with the hint [row, col, value], or null if no hints are available
+     */
+    public CompletableFuture<int[]> getHint() {
+        return submit(IGame::getHint);
+    }
+
+    /**
+     * Solves the game in the background.
+     *
+     * @return A future completed when the board is solved
+     */
+    public CompletableFuture<Void> solve() {
+        return submit(game -> {
+            game.solve();
+            return null;
+        });
+    }
+
+    /**
+     * Runs any operation on the game in the background, after every
+     * previously submitted operation has finished.
+     *
+     * @param operation The operation to run
+     * @param <T> The type of the operation's result
+     * @return A future with the operation's result
+     */
+    public synchronized <T> CompletableFuture<T> submit(Function<IGame, T> operation) {
+        // A failed operation must not stop the ones queued after it
+        CompletableFuture<T> next = last.handleAsync((previous, error) -> operation.apply(game), executor);
+        last = next;
+        return next;
+    }
+
+    /**
+     * Gets the wrapped game. It must only be used directly while no operation is pending.
+     *
+     * @return The wrapped game
+     */
+    public IGame getGame() {
+        return game;
+    }
+}
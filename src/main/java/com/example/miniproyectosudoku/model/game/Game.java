@@ -1,5 +1,10 @@
 package com.example.miniproyectosudoku.model.game;
 
+import com.example.miniproyectosudoku.model.board.RuleSet;
+import com.example.miniproyectosudoku.model.puzzle.PuzzleCache;
+import com.example.miniproyectosudoku.model.puzzle.PuzzleKey;
+import java.util.Random;
+
 /**
  * Concrete implementation of the Sudoku game.
  * Handles game logic and player moves.
@@ -8,28 +13,55 @@ package com.example.miniproyectosudoku.model.game;
 public class Game extends GameAbstract {
 
     /**
-     * Starts a new Sudoku game by generating initial numbers.
+     * Constructor for a game with the classic rules.
+     */
+    public Game() {
+        super();
+    }
+
+    /**
+     * Constructor for a game with the given rules, such as a diagonal, jigsaw or killer variant.
+     *
+     * @param rules The rule set of the game
+     */
+    public Game(RuleSet rules) {
+        super(rules);
+    }
+
+    /**
+     * Starts a new Sudoku game by generating initial numbers from a random seed.
      */
     @Override
     public void startNewGame() {
-        board.generateInitialNumbers();
+        startNewGame(new Random().nextLong());
+    }
+
+    /**
+     * Starts a new Sudoku game generated from the given seed
+     * and begins a new move log for it.
+     *
+     * @param seed The seed for puzzle generation
+     */
+    @Override
+    public void startNewGame(long seed) {
+        board.generateInitialNumbers(seed);
+        beginSession(seed);
     }
 
     /**
-     * Attempts to make a move on the board.
+     * Starts a game on a shared puzzle taken from the default puzzle cache.
+     * The puzzle is generated from the key's seed, so the move log replays like a seeded game.
      *
-     * @param row The row index
-     * @param col The column index
-     * @param value The value to place (1-6, or 0 to clear)
-     * @return true if the move was made, false otherwise
+     * @param key The key of the puzzle to play
      */
     @Override
-    public boolean makeMove(int row, int col, int value) {
-        // Allow setting 0 (clearing a cell) or valid moves
-        if (value == 0 || isValidMove(row, col, value)) {
-            board.setValue(row, col, value);
-            return true;
+    public void startGame(PuzzleKey key) {
+        if (board.getRules() != RuleSet.classic()) {
+            // Cached puzzles follow the classic rules; variants generate from the key's seed
+            startNewGame(key.getSeed());
+            return;
         }
-        return false;
+        PuzzleCache.getDefault().get(key).loadInto(board);
+        beginSession(key.getSeed());
     }
 }
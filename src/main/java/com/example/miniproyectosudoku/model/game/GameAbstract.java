@@ -1,6 +1,10 @@
 package com.example.miniproyectosudoku.model.game;
 
+import com.example.miniproyectosudoku.model.analytics.AnalyticsPipeline;
+import com.example.miniproyectosudoku.model.analytics.EventType;
 import com.example.miniproyectosudoku.model.board.Board;
+import com.example.miniproyectosudoku.model.board.RuleSet;
+import com.example.miniproyectosudoku.model.replay.MoveLog;
 import java.util.HashSet;
 
 /**
@@ -10,12 +14,93 @@ import java.util.HashSet;
  */
 public abstract class GameAbstract implements IGame {
     protected Board board;
+    protected MoveLog moveLog; // Moves of the current session, for replay
+    private AnalyticsPipeline analytics; // Receives player events, or null when analytics are off
+    private int givens; // Given cells of the current puzzle
+    private long lastEventNanos; // Time of the previous event, to measure time per move
 
     /**
-     * Constructor that initializes the board.
+     * Constructor that initializes the board with the classic rules.
      */
     public GameAbstract() {
-        this.board = new Board();
+        this(RuleSet.classic());
+    }
+
+    /**
+     * Constructor that initializes the board with the given rules.
+     *
+     * @param rules The rule set (classic or a variant)
+     */
+    public GameAbstract(RuleSet rules) {
+        this.board = new Board(rules);
+        this.moveLog = new MoveLog(board.getSeed(), rules);
+    }
+
+    /**
+     * Gets the seed of the current game.
+     *
+     * @return The seed the current puzzle was generated from
+     */
+    @Override
+    public long getSeed() {
+        return board.getSeed();
+    }
+
+    /**
+     * Begins a session on the puzzle just placed on the board:
+     * starts a new move log and restarts the analytics clock.
+     *
+     * @param seed The seed of the puzzle
+     */
+    protected void beginSession(long seed) {
+        moveLog = new MoveLog(seed, board.getRules());
+        givens = board.getFilledCount();
+        restartClock();
+    }
+
+    /**
+     * Restarts the analytics clock, so the next event measures the time from now.
+     * A game may be generated well before its board is shown, so the view
+     * calls this once the player can actually see the board.
+     */
+    public void restartClock() {
+        lastEventNanos = System.nanoTime();
+    }
+
+    /**
+     * Sets the pipeline that receives the player events of this game.
+     *
+     * @param analytics The analytics pipeline, or null to turn analytics off
+     */
+    public void setAnalytics(AnalyticsPipeline analytics) {
+        this.analytics = analytics;
+    }
+
+    /**
+     * Records a player event, with the time since the previous one, if analytics are on.
+     * Does not allocate.
+     *
+     * @param type The event type
+     * @param row The row index
+     * @param col The column index
+     * @param value The value involved
+     */
+    protected void emit(EventType type, int row, int col, int value) {
+        if (analytics == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        analytics.record(board.getSeed(), type, row * 6 + col, value, givens, (now - lastEventNanos) / 1_000_000);
+        lastEventNanos = now;
+    }
+
+    /**
+     * Gets the log of the moves made in the current game.
+     *
+     * @return The move log of the current session
+     */
+    public MoveLog getMoveLog() {
+        return moveLog;
     }
 
     /**
@@ -38,7 +123,11 @@ public abstract class GameAbstract implements IGame {
      */
     @Override
     public boolean isValidMove(int row, int col, int value) {
-        return board.isValidMove(row, col, value);
+        if (board.isValidMove(row, col, value)) {
+            return true;
+        }
+        emit(EventType.INVALID, row, col, value);
+        return false;
     }
 
     /**
@@ -46,18 +135,37 @@ public abstract class GameAbstract implements IGame {
      *
      * @param row The row index
      * @param col The column index
-     * @param value The value to place
+     * @param value The value to place (1-6, or 0 to clear)
      * @return true if the move was successful, false otherwise
      */
     @Override
     public boolean makeMove(int row, int col, int value) {
-        if (value == 0 || isValidMove(row, col, value)) {
+        // Every attempt is logged, so a replay reproduces rejected moves too
+        moveLog.append(row, col, value);
+
+        // Allow setting 0 (clearing a cell) or valid moves; the board checks them,
+        // so a rejected move is recorded once, not also as an invalid check
+        if (value == 0 || board.isValidMove(row, col, value)) {
             board.setValue(row, col, value);
+            emit(value == 0 ? EventType.CLEAR : EventType.MOVE, row, col, value);
             return true;
         }
+        emit(EventType.REJECTED, row, col, value);
         return false;
     }
 
+    /**
+     * Gets the candidate values of a cell as a bitmask.
+     *
+     * @param row The row index
+     * @param col The column index
+     * @return The candidate bitmask (bit v set when v is possible), or 0 if the cell is filled
+     */
+    @Override
+    public int getCandidates(int row, int col) {
+        return board.getCandidates(row, col);
+    }
+
     /**
      * Provides a hint for the next move.
      *
@@ -65,7 +173,33 @@ public abstract class GameAbstract implements IGame {
      */
     @Override
     public int[] getHint() {
-        return board.getHint();
+        int[] hint = board.getHint();
+        if (hint != null) {
+            emit(EventType.HINT, hint[0], hint[1], hint[2]);
+        }
+        return hint;
+    }
+
+    /**
+     * Solves the game through regular moves, so the move log can replay it:
+     * player entries that differ from the solution are cleared first,
+     * then every empty cell is filled from the board's hints, which are not recorded as hint events.
+     */
+    @Override
+    public void solve() {
+        for (int i = 0; i < 6; i++) {
+            for (int j = 0; j < 6; j++) {
+                int value = board.getValue(i, j);
+                if (value != 0 && !isInitialCell(i, j) && value != board.getSolution(i, j)) {
+                    makeMove(i, j, 0);
+                }
+            }
+        }
+
+        int[] hint;
+        while ((hint = board.getHint()) != null) {
+            makeMove(hint[0], hint[1], hint[2]);
+        }
     }
 
     /**
@@ -75,13 +209,7 @@ public abstract class GameAbstract implements IGame {
      */
     @Override
     public boolean isGameOver() {
-        int[][] grid = board.getBoard();
-        for (int i = 0; i < grid.length; i++) {
-            for (int j = 0; j < grid[i].length; j++) {
-                if (grid[i][j] == 0) return false;
-            }
-        }
-        return true;
+        return board.isFull();
     }
 
     /**
@@ -94,6 +222,15 @@ public abstract class GameAbstract implements IGame {
         return board.getEmptyCells();
     }
 
+    /**
+     * Gets the number of filled cells on the board.
+     *
+     * @return The number of non-empty cells
+     */
+    public int getFilledCount() {
+        return board.getFilledCount();
+    }
+
     /**
      * Checks if a cell is part of the initial puzzle.
      *
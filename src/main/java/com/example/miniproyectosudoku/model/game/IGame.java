@@ -1,5 +1,7 @@
 package com.example.miniproyectosudoku.model.game;
 
+import com.example.miniproyectosudoku.model.puzzle.PuzzleKey;
+
 /**
  * Interface for the Sudoku game logic.
  * Defines methods for game management, move validation, and gameplay state.
@@ -12,6 +14,29 @@ public interface IGame {
      */
     void startNewGame();
 
+    /**
+     * Starts a new Sudoku game whose puzzle is generated from the given seed.
+     * Games started with the same seed are identical.
+     *
+     * @param seed The seed for puzzle generation
+     */
+    void startNewGame(long seed);
+
+    /**
+     * Starts a game on a shared puzzle, such as the daily challenge.
+     * The puzzle is taken from the puzzle cache instead of being generated again.
+     *
+     * @param key The key of the puzzle to play
+     */
+    void startGame(PuzzleKey key);
+
+    /**
+     * Gets the seed of the current game.
+     *
+     * @return The seed the current puzzle was generated from
+     */
+    long getSeed();
+
     /**
      * Attempts to make a move on the board.
      *
@@ -46,6 +71,23 @@ public interface IGame {
      */
     int[][] getBoard();
 
+    /**
+     * Gets the candidate values (pencil marks) of a cell as a bitmask.
+     * Bit v is set when value v can still be placed in the cell.
+     * Kept up to date by the model as moves are made and cleared.
+     *
+     * @param row The row index (0-based)
+     * @param col The column index (0-based)
+     * @return The candidate bitmask, or 0 if the cell is filled
+     */
+    int getCandidates(int row, int col);
+
+    /**
+     * Solves the game: clears wrong entries and fills every empty cell
+     * with its value from the solution.
+     */
+    void solve();
+
     /**
      * Provides a hint for the player (the correct value for an empty cell).
      *
@@ -0,0 +1,121 @@
+package com.example.miniproyectosudoku.model.puzzle;
+
+import com.example.miniproyectosudoku.model.board.Board;
+
+/**
+ * An immutable generated puzzle together with its solution and difficulty.
+ * Cells are stored as 36 row-major bytes to keep cached entries small.
+ * @version 1.0
+ */
+public final class Puzzle {
+
+    /**
+     * Difficulty levels, based on how many cells are given.
+     */
+    public enum Difficulty {
+        EASY, MEDIUM, HARD;
+
+        /**
+         * Gets the difficulty of a puzzle with the given number of given cells.
+         * Generated puzzles keep 12-15 cells.
+         *
+         * @param givens The number of given cells
+         * @return The difficulty level
+         */
+        public static Difficulty of(int givens) {
+            return givens >= 15 ? EASY : givens >= 13 ? MEDIUM : HARD;
+        }
+    }
+
+    private final long seed;
+    private final byte[] cells;
+    private final byte[] solution;
+    private final Difficulty difficulty;
+
+    /**
+     * Constructor for Puzzle. The cells are copied, so later changes
+     * to the given arrays do not affect the puzzle.
+     *
+     * @param seed The seed the puzzle was generated from
+     * @param cells The puzzle cells (0 for empty), 36 in row-major order
+     * @param solution The solution cells, 36 in row-major order
+     * @throws IllegalArgumentException if either array does not hold 36 cells
+     */
+    public Puzzle(long seed, byte[] cells, byte[] solution) {
+        if (cells.length != 36 || solution.length != 36) {
+            throw new IllegalArgumentException("A puzzle has 36 cells");
+        }
+        this.seed = seed;
+        this.cells = cells.clone();
+        this.solution = solution.clone();
+
+        int givens = 0;
+        for (byte cell : cells) {
+            if (cell != 0) {
+                givens++;
+            }
+        }
+        this.difficulty = Difficulty.of(givens);
+    }
+
+    /**
+     * Generates the puzzle for a seed.
+     *
+     * @param seed The seed for puzzle generation
+     * @return The generated puzzle
+     */
+    public static Puzzle generate(long seed) {
+        Board board = new Board();
+        board.generateInitialNumbers(seed);
+        return new Puzzle(seed, board.toCells(false), board.toCells(true));
+    }
+
+    /**
+     * Loads the puzzle into a board.
+     *
+     * @param board The board to load into
+     */
+    public void loadInto(Board board) {
+        board.loadPuzzle(cells, solution, seed);
+    }
+
+    /**
+     * Gets the seed the puzzle was generated from.
+     *
+     * @return The puzzle seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the value of a puzzle cell.
+     *
+     * @param row The row index
+     * @param col The column index
+     * @return The given value, or 0 if the cell is empty
+     */
+    public int getCell(int row, int col) {
+        return cells[row * 6 + col];
+    }
+
+    /**
+     * Gets the solution value of a cell.
+     *
+     * @param row The row index
+     * @param col The column index
+     * @return The solution value
+     */
+    public int getSolution(int row, int col) {
+        return solution[row * 6 + col];
+    }
+
+    /**
+     * Gets the difficulty of the puzzle.
+     *
+     * @return The difficulty level
+     */
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.miniproyectosudoku.model.puzzle;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of generated puzzles by key, so a shared puzzle (such as the
+ * puzzle of the day) is generated once instead of once per player.
+ * Entries are evicted least-recently-used when the cache is full and
+ * expire after a fixed time to live.
+ * @version 1.0
+ */
+public class PuzzleCache {
+
+    private static final PuzzleCache DEFAULT = new PuzzleCache(256, Duration.ofDays(2));
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LinkedHashMap<PuzzleKey, Entry> entries;
+    private long hits;
+    private long misses;
+
+    /**
+     * Constructor for PuzzleCache.
+     *
+     * @param maxEntries The maximum number of cached puzzles
+     * @param ttl How long a puzzle stays cached after it was generated
+     */
+    public PuzzleCache(int maxEntries, Duration ttl) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PuzzleKey, Entry> eldest) {
+                return size() > PuzzleCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Gets the cache shared by games that do not use their own.
+     *
+     * @return The default puzzle cache
+     */
+    public static PuzzleCache getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Gets the puzzle for a key, generating and caching it on a miss.
+     *
+     * @param key The puzzle key
+     * @return The puzzle for the key
+     */
+    public Puzzle get(PuzzleKey key) {
+        Puzzle cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Generate outside the lock; a concurrent miss on the same key yields the same puzzle
+        Puzzle puzzle = Puzzle.generate(key.getSeed());
+        put(key, puzzle);
+        return puzzle;
+    }
+
+    /**
+     * Gets the puzzle for a key if it is cached and not expired.
+     *
+     * @param key The puzzle key
+     * @return The cached puzzle, or null on a miss
+     */
+    public synchronized Puzzle getIfPresent(PuzzleKey key) {
+        Entry entry = entries.get(key);
+        if (entry != null && System.nanoTime() - entry.createdAt < ttlNanos) {
+            hits++;
+            return entry.puzzle;
+        }
+        if (entry != null) {
+            entries.remove(key);
+        }
+        misses++;
+        return null;
+    }
+
+    /**
+     * Adds a puzzle to the cache, evicting the least recently used entry if full.
+     *
+     * @param key The puzzle key
+     * @param puzzle The puzzle
+     */
+    public synchronized void put(PuzzleKey key, Puzzle puzzle) {
+        entries.put(key, new Entry(puzzle, System.nanoTime()));
+    }
+
+    /**
+     * Pre-generates the puzzles of a schedule so the first players find them cached.
+     *
+     * @param keys The keys to warm
+     */
+    public void warm(Iterable<PuzzleKey> keys) {
+        for (PuzzleKey key : keys) {
+            if (getIfPresent(key) == null) {
+                put(key, Puzzle.generate(key.getSeed()));
+            }
+        }
+    }
+
+    /**
+     * Pre-generates the daily challenges for a range of days.
+     *
+     * @param from The first day
+     * @param days The number of days to warm
+     */
+    public void warmDaily(LocalDate from, int days) {
+        for (int i = 0; i < days; i++) {
+            PuzzleKey key = PuzzleKey.daily(from.plusDays(i));
+            if (getIfPresent(key) == null) {
+                put(key, Puzzle.generate(key.getSeed()));
+            }
+        }
+    }
+
+    /**
+     * Removes every expired entry.
+     */
+    public synchronized void evictExpired() {
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> now - entry.createdAt >= ttlNanos);
+    }
+
+    /**
+     * Gets the number of cached puzzles.
+     *
+     * @return The number of entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the number of lookups that found a cached puzzle.
+     *
+     * @return The hit count
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of lookups that did not find a cached puzzle.
+     *
+     * @return The miss count
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * A cached puzzle and the time it was stored.
+     */
+    private static class Entry {
+        private final Puzzle puzzle;
+        private final long createdAt;
+
+        /**
+         * Constructor for Entry.
+         *
+         * @param puzzle The cached puzzle
+         * @param createdAt The time it was stored, from System.nanoTime
+         */
+        Entry(Puzzle puzzle, long createdAt) {
+            this.puzzle = puzzle;
+            this.createdAt = createdAt;
+        }
+    }
+}
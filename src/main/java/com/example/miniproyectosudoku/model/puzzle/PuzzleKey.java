@@ -0,0 +1,78 @@
+package com.example.miniproyectosudoku.model.puzzle;
+
+import java.time.LocalDate;
+
+/**
+ * Identifies a shareable puzzle, such as the puzzle of the day.
+ * The key carries the seed the puzzle is generated from, so every
+ * player asking for the same key gets the same puzzle.
+ * @version 1.0
+ */
+public final class PuzzleKey {
+
+    private final String name;
+    private final long seed;
+
+    /**
+     * Constructor for PuzzleKey.
+     *
+     * @param name A readable name for the puzzle (e.g. "daily-2025-01-31")
+     * @param seed The seed the puzzle is generated from
+     */
+    public PuzzleKey(String name, long seed) {
+        this.name = name;
+        this.seed = seed;
+    }
+
+    /**
+     * Creates the key of the daily challenge for a date.
+     *
+     * @param date The date of the challenge
+     * @return The key of that day's puzzle
+     */
+    public static PuzzleKey daily(LocalDate date) {
+        // Spread consecutive days over the seed space
+        long seed = date.toEpochDay() * 0x9E3779B97F4A7C15L;
+        return new PuzzleKey("daily-" + date, seed);
+    }
+
+    /**
+     * Gets the name of the puzzle.
+     *
+     * @return The puzzle name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the seed the puzzle is generated from.
+     *
+     * @return The puzzle seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof PuzzleKey)) {
+            return false;
+        }
+        PuzzleKey key = (PuzzleKey) other;
+        return seed == key.seed && name.equals(key.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * name.hashCode() + Long.hashCode(seed);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.miniproyectosudoku.model.race;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Live leaderboard of a race room, built from progress batches.
+ * Players are ranked by filled cells, then by fewest errors.
+ * @version 1.0
+ */
+public class Leaderboard implements ProgressListener {
+
+    private final int[] filled;
+    private final int[] errors;
+    private final boolean[] seen;
+    private long batches;
+    private long events;
+
+    /**
+     * Constructor for Leaderboard.
+     *
+     * @param capacity The maximum number of players in the room
+     */
+    public Leaderboard(int capacity) {
+        this.filled = new int[capacity];
+        this.errors = new int[capacity];
+        this.seen = new boolean[capacity];
+    }
+
+    @Override
+    public synchronized void onProgress(List<ProgressEvent> batch) {
+        for (ProgressEvent event : batch) {
+            filled[event.getPlayer()] = event.getFilled();
+            errors[event.getPlayer()] = event.getErrors();
+            seen[event.getPlayer()] = true;
+        }
+        batches++;
+        events += batch.size();
+    }
+
+    /**
+     * Gets the current standings, best player first.
+     *
+     * @param limit The maximum number of players to return
+     * @return The progress of the leading players
+     */
+    public synchronized List<ProgressEvent> getStandings(int limit) {
+        List<ProgressEvent> standings = new ArrayList<>();
+        for (int player = 0; player < seen.length; player++) {
+            if (seen[player]) {
+                standings.add(new ProgressEvent(player, filled[player], errors[player]));
+            }
+        }
+        standings.sort(Comparator.comparingInt(ProgressEvent::getFilled).reversed()
+                .thenComparingInt(ProgressEvent::getErrors));
+        return standings.subList(0, Math.min(limit, standings.size()));
+    }
+
+    /**
+     * Gets the number of batches received.
+     *
+     * @return The batch count
+     */
+    public synchronized long getBatches() {
+        return batches;
+    }
+
+    /**
+     * Gets the number of events received.
+     *
+     * @return The event count
+     */
+    public synchronized long getEvents() {
+        return events;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.miniproyectosudoku.model.race;
+
+import java.util.List;
+
+/**
+ * Transport that hands batches directly to in-process subscribers,
+ * on the thread that flushes the room. Used for local play and load tests.
+ * @version 1.0
+ */
+public class LoopbackTransport implements Transport {
+
+    @Override
+    public void send(ProgressListener listener, List<ProgressEvent> batch) {
+        listener.onProgress(batch);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.miniproyectosudoku.model.race;
+
+/**
+ * Progress of one player in a race: how many cells are filled and how
+ * many moves were rejected or failed a validity check. Events are snapshots,
+ * so only the latest one per player matters.
+ * @version 1.0
+ */
+public final class ProgressEvent {
+
+    private final int player;
+    private final int filled;
+    private final int errors;
+
+    /**
+     * Constructor for ProgressEvent.
+     *
+     * @param player The player's index in the room
+     * @param filled The number of filled cells
+     * @param errors The number of rejected moves and failed validity checks
+     */
+    public ProgressEvent(int player, int filled, int errors) {
+        this.player = player;
+        this.filled = filled;
+        this.errors = errors;
+    }
+
+    /**
+     * Gets the player's index in the room.
+     *
+     * @return The player index
+     */
+    public int getPlayer() {
+        return player;
+    }
+
+    /**
+     * Gets the number of filled cells.
+     *
+     * @return The filled cell count (36 when the board is complete)
+     */
+    public int getFilled() {
+        return filled;
+    }
+
+    /**
+     * Gets the number of rejected moves and failed validity checks.
+     *
+     * @return The error count
+     */
+    public int getErrors() {
+        return errors;
+    }
+
+    @Override
+    public String toString() {
+        return "player " + player + ": " + filled + " filled, " + errors + " errors";
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.miniproyectosudoku.model.race;
+
+import java.util.List;
+
+/**
+ * Receives the progress of the players in a race room.
+ * @version 1.0
+ */
+public interface ProgressListener {
+
+    /**
+     * Handles a batch of progress events. The batch holds at most one event
+     * per player (the latest since the previous batch) and is shared between
+     * listeners, so it must not be modified.
+     *
+     * @param batch The progress events
+     */
+    void onProgress(List<ProgressEvent> batch);
+}
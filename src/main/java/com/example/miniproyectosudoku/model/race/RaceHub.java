@@ -0,0 +1,107 @@
+package com.example.miniproyectosudoku.model.race;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process publish/subscribe hub for race rooms.
+ * Creates rooms on shared puzzles and flushes their coalesced progress to
+ * subscribers, either on demand or periodically on a background thread.
+ * @version 1.0
+ */
+public class RaceHub implements AutoCloseable {
+
+    private final Transport transport;
+    private final Map<String, RaceRoom> rooms = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Constructor for RaceHub.
+     *
+     * @param transport The transport used to deliver progress batches
+     */
+    public RaceHub(Transport transport) {
+        this.transport = transport;
+    }
+
+    /**
+     * Creates a room, or returns the existing room with the same name.
+     *
+     * @param name The room name
+     * @param seed The seed of the shared puzzle
+     * @param capacity The maximum number of players
+     * @return The room
+     */
+    public RaceRoom createRoom(String name, long seed, int capacity) {
+        return rooms.computeIfAbsent(name, key -> new RaceRoom(key, seed, capacity, transport));
+    }
+
+    /**
+     * Gets a room by name.
+     *
+     * @param name The room name
+     * @return The room, or null if there is none
+     */
+    public RaceRoom getRoom(String name) {
+        return rooms.get(name);
+    }
+
+    /**
+     * Removes a room. Its pending progress is discarded.
+     *
+     * @param name The room name
+     */
+    public void closeRoom(String name) {
+        rooms.remove(name);
+    }
+
+    /**
+     * Flushes every room once.
+     *
+     * @return The total number of events sent
+     */
+    public int flushAll() {
+        int events = 0;
+        for (RaceRoom room : rooms.values()) {
+            events += room.flush();
+        }
+        return events;
+    }
+
+    /**
+     * Starts flushing every room periodically on a background thread.
+     *
+     * @param periodMillis The time between flushes, in milliseconds
+     */
+    public synchronized void start(long periodMillis) {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "race-hub");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::flushAll, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the periodic flushing and sends any remaining progress.
+     */
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            scheduler = null;
+        }
+        flushAll();
+    }
+}
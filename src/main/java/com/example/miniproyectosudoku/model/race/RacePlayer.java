@@ -0,0 +1,142 @@
+package com.example.miniproyectosudoku.model.race;
+
+import com.example.miniproyectosudoku.model.game.Game;
+import com.example.miniproyectosudoku.model.game.IGame;
+import com.example.miniproyectosudoku.model.puzzle.PuzzleKey;
+
+/**
+ * A player in a race room. Plays its own {@link Game} on the room's shared
+ * puzzle, taken from the puzzle cache so the room generates it only once,
+ * and publishes its progress to the room after every move.
+ * Not thread-safe: each player is driven by one thread at a time.
+ * @version 1.0
+ */
+public class RacePlayer implements IGame {
+
+    private final RaceRoom room;
+    private final int index;
+    private final PuzzleKey puzzle; // The room's shared puzzle
+    private final Game game = new Game();
+    private int errors; // Rejected moves and failed validity checks
+
+    /**
+     * Constructor used by the room.
+     *
+     * @param room The room the player joined
+     * @param index The player's index in the room
+     * @param puzzle The key of the shared puzzle
+     */
+    RacePlayer(RaceRoom room, int index, PuzzleKey puzzle) {
+        this.room = room;
+        this.index = index;
+        this.puzzle = puzzle;
+        startGame(puzzle);
+    }
+
+    /**
+     * Gets the player's index in the room.
+     *
+     * @return The player index
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Restarts the race puzzle. Racers always play the room's puzzle.
+     */
+    @Override
+    public void startNewGame() {
+        startGame(puzzle);
+    }
+
+    /**
+     * Restarts the race puzzle; the seed is ignored in favour of the room's.
+     *
+     * @param seed Ignored
+     */
+    @Override
+    public void startNewGame(long seed) {
+        startGame(puzzle);
+    }
+
+    /**
+     * Restarts the race puzzle; the key is ignored in favour of the room's puzzle.
+     *
+     * @param key Ignored
+     */
+    @Override
+    public void startGame(PuzzleKey key) {
+        game.startGame(puzzle);
+        errors = 0;
+        room.publish(index, game.getFilledCount(), errors);
+    }
+
+    @Override
+    public long getSeed() {
+        return game.getSeed();
+    }
+
+    /**
+     * Makes a move and publishes the player's progress.
+     *
+     * @param row The row index
+     * @param col The column index
+     * @param value The value to place (1-6, or 0 to clear)
+     * @return true if the move was made, false if it was rejected
+     */
+    @Override
+    public boolean makeMove(int row, int col, int value) {
+        boolean accepted = game.makeMove(row, col, value);
+        if (!accepted) {
+            errors++;
+        }
+        room.publish(index, game.getFilledCount(), errors);
+        return accepted;
+    }
+
+    /**
+     * Checks a move. Players (and the game view) check values before placing
+     * them, so a failed check counts as an error and is published.
+     *
+     * @param row The row index
+     * @param col The column index
+     * @param value The value to check
+     * @return true if the move is valid, false otherwise
+     */
+    @Override
+    public boolean isValidMove(int row, int col, int value) {
+        if (game.isValidMove(row, col, value)) {
+            return true;
+        }
+        errors++;
+        room.publish(index, game.getFilledCount(), errors);
+        return false;
+    }
+
+    @Override
+    public boolean isGameOver() {
+        return game.isGameOver();
+    }
+
+    @Override
+    public int[][] getBoard() {
+        return game.getBoard();
+    }
+
+    @Override
+    public int getCandidates(int row, int col) {
+        return game.getCandidates(row, col);
+    }
+
+    @Override
+    public void solve() {
+        game.solve();
+        room.publish(index, game.getFilledCount(), errors);
+    }
+
+    @Override
+    public int[] getHint() {
+        return game.getHint();
+    }
+}
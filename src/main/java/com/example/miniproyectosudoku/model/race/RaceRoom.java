@@ -0,0 +1,184 @@
+package com.example.miniproyectosudoku.model.race;
+
+import com.example.miniproyectosudoku.model.puzzle.PuzzleKey;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A race on one shared puzzle. Players publish their progress on every move,
+ * but the room only keeps the latest progress of each player and a dirty flag.
+ * Flushing turns the dirty players into one batch that is sent to every
+ * subscriber, so broadcast cost depends on the number of players and the
+ * flush rate, not on how fast moves are made.
+ * @version 1.0
+ */
+public class RaceRoom {
+
+    private final String name;
+    private final long seed;
+    private final PuzzleKey puzzle; // Key of the shared puzzle, generated once in the puzzle cache
+    private final int capacity;
+    private final Transport transport;
+    private final AtomicLongArray progress; // Per player: filled << 32 | errors
+    private final AtomicLongArray dirty; // One bit per player with unsent progress
+    private final AtomicInteger players = new AtomicInteger();
+    private final LongAdder published = new LongAdder();
+    private final List<ProgressListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructor for RaceRoom.
+     *
+     * @param name The room name
+     * @param seed The seed of the shared puzzle
+     * @param capacity The maximum number of players
+     * @param transport The transport used to deliver progress batches
+     */
+    RaceRoom(String name, long seed, int capacity, Transport transport) {
+        this.name = name;
+        this.seed = seed;
+        this.puzzle = new PuzzleKey(name, seed);
+        this.capacity = capacity;
+        this.transport = transport;
+        this.progress = new AtomicLongArray(capacity);
+        this.dirty = new AtomicLongArray((capacity + 63) / 64);
+    }
+
+    /**
+     * Adds a player to the room. The player gets its own game on the shared puzzle.
+     *
+     * @return The new player
+     * @throws IllegalStateException if the room is full
+     */
+    public RacePlayer join() {
+        int index = players.getAndIncrement();
+        if (index >= capacity) {
+            players.decrementAndGet();
+            throw new IllegalStateException("Room " + name + " is full");
+        }
+        return new RacePlayer(this, index, puzzle);
+    }
+
+    /**
+     * Subscribes to the progress of every player in the room.
+     *
+     * @param listener The subscriber
+     */
+    public void subscribe(ProgressListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unsubscribes from the room.
+     *
+     * @param listener The subscriber
+     */
+    public void unsubscribe(ProgressListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Records a player's latest progress. Does not allocate; earlier
+     * unsent progress of the same player is overwritten.
+     *
+     * @param player The player index
+     * @param filled The number of filled cells
+     * @param errors The number of rejected moves and failed validity checks
+     */
+    void publish(int player, int filled, int errors) {
+        published.increment();
+        progress.set(player, (long) filled << 32 | errors);
+        long bit = 1L << (player & 63);
+        int word = player >>> 6;
+        long current;
+        while (((current = dirty.get(word)) & bit) == 0 && !dirty.compareAndSet(word, current, current | bit)) {
+            // Retry until the bit is set
+        }
+    }
+
+    /**
+     * Sends the latest progress of every player that changed since the
+     * previous flush to all subscribers, as one batch.
+     *
+     * @return The number of events in the batch
+     */
+    public int flush() {
+        List<ProgressEvent> batch = new ArrayList<>();
+        for (int word = 0; word < dirty.length(); word++) {
+            long bits = dirty.getAndSet(word, 0);
+            while (bits != 0) {
+                int player = word * 64 + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                long value = progress.get(player);
+                batch.add(new ProgressEvent(player, (int) (value >>> 32), (int) value));
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            List<ProgressEvent> shared = Collections.unmodifiableList(batch);
+            for (ProgressListener listener : listeners) {
+                transport.send(listener, shared);
+            }
+        }
+        return batch.size();
+    }
+
+    /**
+     * Gets the room name.
+     *
+     * @return The name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the seed of the shared puzzle.
+     *
+     * @return The puzzle seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the key of the shared puzzle.
+     *
+     * @return The puzzle key
+     */
+    public PuzzleKey getPuzzle() {
+        return puzzle;
+    }
+
+    /**
+     * Gets the number of players that joined.
+     *
+     * @return The player count
+     */
+    public int getPlayerCount() {
+        return players.get();
+    }
+
+    /**
+     * Gets the number of progress updates published by players.
+     *
+     * @return The update count
+     */
+    public long getPublished() {
+        return published.sum();
+    }
+
+    /**
+     * Gets the number of subscribers.
+     *
+     * @return The subscriber count
+     */
+    public int getSubscriberCount() {
+        return listeners.size();
+    }
+}
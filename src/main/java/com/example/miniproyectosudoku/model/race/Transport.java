@@ -0,0 +1,20 @@
+package com.example.miniproyectosudoku.model.race;
+
+import java.util.List;
+
+/**
+ * Delivers batches of progress events to the subscribers of a room.
+ * Implementations may send them over a network; {@link LoopbackTransport}
+ * delivers them in-process.
+ * @version 1.0
+ */
+public interface Transport {
+
+    /**
+     * Delivers a batch to one subscriber.
+     *
+     * @param listener The subscriber
+     * @param batch The progress events
+     */
+    void send(ProgressListener listener, List<ProgressEvent> batch);
+}
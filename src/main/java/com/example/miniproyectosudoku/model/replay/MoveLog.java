@@ -0,0 +1,291 @@
+package com.example.miniproyectosudoku.model.replay;
+
+import com.example.miniproyectosudoku.model.board.RuleSet;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Compact binary log of the moves made in one game session.
+ * Each move is stored as four varints: row, column, value and the time in
+ * milliseconds since the previous move. Together with the game seed and the
+ * rule set, stored in the header, this is enough to reconstruct the session exactly.
+ * @version 1.0
+ */
+public class MoveLog {
+
+    private static final int MAGIC_CLASSIC = 0x53444B4C; // "SDKL", logs without a rule set, always classic
+    private static final int MAGIC = 0x53444B52; // "SDKR", logs whose header holds the rule set
+    private static final int MIN_RECORD = 4; // Four one-byte varints
+    private static final int MAX_RECORD = 40; // Four maximum-length varints
+    private static final int READ_CHUNK = 1 << 16; // Bytes read at a time, so a bad header cannot force a huge allocation
+
+    private final long seed;
+    private final RuleSet rules; // Rules the game was played with
+    private byte[] data = new byte[64];
+    private int length;
+    private int moves;
+    private long lastTime;
+
+    /**
+     * Constructor for a new, empty log of a classic game started from the given seed.
+     *
+     * @param seed The seed the game was generated from
+     */
+    public MoveLog(long seed) {
+        this(seed, RuleSet.classic());
+    }
+
+    /**
+     * Constructor for a new, empty log of a game started from the given seed.
+     *
+     * @param seed The seed the game was generated from
+     * @param rules The rules of the game (classic or a variant)
+     */
+    public MoveLog(long seed, RuleSet rules) {
+        this.seed = seed;
+        this.rules = rules;
+        this.lastTime = System.nanoTime() / 1_000_000;
+    }
+
+    /**
+     * Constructor used when reading a log back.
+     *
+     * @param seed The seed the game was generated from
+     * @param rules The rules of the game
+     * @param data The encoded move records
+     * @param length The number of valid bytes in data
+     * @param moves The number of records in data
+     */
+    private MoveLog(long seed, RuleSet rules, byte[] data, int length, int moves) {
+        this.seed = seed;
+        this.rules = rules;
+        this.data = data;
+        this.length = length;
+        this.moves = moves;
+    }
+
+    /**
+     * Appends a move, timestamped with the current time.
+     *
+     * @param row The row index
+     * @param col The column index
+     * @param value The value played (0 for a clear)
+     */
+    public void append(int row, int col, int value) {
+        long now = System.nanoTime() / 1_000_000;
+        append(row, col, value, now - lastTime);
+        lastTime = now;
+    }
+
+    /**
+     * Appends a move with an explicit delay since the previous move.
+     *
+     * @param row The row index
+     * @param col The column index
+     * @param value The value played (0 for a clear)
+     * @param deltaMillis Milliseconds elapsed since the previous move
+     */
+    public void append(int row, int col, int value, long deltaMillis) {
+        if (data.length - length < MAX_RECORD) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+        writeVarint(row);
+        writeVarint(col);
+        writeVarint(value);
+        writeVarint(deltaMillis);
+        moves++;
+    }
+
+    /**
+     * Gets the seed of the logged game.
+     *
+     * @return The game seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the rules the logged game was played with.
+     *
+     * @return The rule set
+     */
+    public RuleSet getRules() {
+        return rules;
+    }
+
+    /**
+     * Gets the number of logged moves.
+     *
+     * @return The number of moves
+     */
+    public int size() {
+        return moves;
+    }
+
+    /**
+     * Gets the size of the encoded move records.
+     *
+     * @return The number of bytes used by the records
+     */
+    public int byteSize() {
+        return length;
+    }
+
+    /**
+     * Decodes every logged move in order.
+     *
+     * @param visitor The visitor receiving each move
+     */
+    public void forEach(MoveVisitor visitor) {
+        int[] position = {0};
+        for (int i = 0; i < moves; i++) {
+            int row = (int) readVarint(position);
+            int col = (int) readVarint(position);
+            int value = (int) readVarint(position);
+            long delta = readVarint(position);
+            visitor.visit(row, col, value, delta);
+        }
+    }
+
+    /**
+     * Writes the log (header and records) to a stream.
+     *
+     * @param out The destination stream
+     * @throws IOException if writing fails
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        DataOutputStream dataOut = new DataOutputStream(out);
+        dataOut.writeInt(MAGIC);
+        dataOut.writeLong(seed);
+        rules.writeTo(dataOut);
+        dataOut.writeInt(moves);
+        dataOut.writeInt(length);
+        dataOut.write(data, 0, length);
+        dataOut.flush();
+    }
+
+    /**
+     * Reads a log previously written with {@link #writeTo(OutputStream)}.
+     *
+     * @param in The source stream
+     * @return The decoded log
+     * @throws IOException if reading fails or the stream is not a move log
+     */
+    public static MoveLog readFrom(InputStream in) throws IOException {
+        DataInputStream dataIn = new DataInputStream(in);
+        int magic = dataIn.readInt();
+        if (magic != MAGIC && magic != MAGIC_CLASSIC) {
+            throw new IOException("Not a move log");
+        }
+        long seed = dataIn.readLong();
+        RuleSet rules = magic == MAGIC ? RuleSet.readFrom(dataIn) : RuleSet.classic();
+        int moves = dataIn.readInt();
+        int length = dataIn.readInt();
+        if (moves < 0 || length < (long) moves * MIN_RECORD || length > (long) moves * MAX_RECORD) {
+            throw new EOFException("Corrupt move log header");
+        }
+
+        // Grow the buffer as the records arrive, so a truncated stream ends in an EOFException
+        byte[] data = new byte[Math.max(Math.min(length, READ_CHUNK), 16)];
+        int read = 0;
+        while (read < length) {
+            if (read == data.length) {
+                data = Arrays.copyOf(data, (int) Math.min((long) data.length * 2, length));
+            }
+            int count = Math.min(length, data.length) - read;
+            dataIn.readFully(data, read, count);
+            read += count;
+        }
+        MoveLog log = new MoveLog(seed, rules, data, length, moves);
+        log.validate();
+        return log;
+    }
+
+    /**
+     * Checks that the records hold exactly the announced number of moves,
+     * with every varint inside the data and every cell and value in range,
+     * so a truncated or corrupt log is rejected when it is read.
+     *
+     * @throws IOException if the records are corrupt
+     */
+    private void validate() throws IOException {
+        int position = 0;
+        for (int i = 0; i < moves; i++) {
+            for (int field = 0; field < 4; field++) {
+                long value = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    if (position >= length || shift > 63) {
+                        throw new EOFException("Corrupt move log: move " + i + " is truncated");
+                    }
+                    b = data[position++];
+                    value |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+
+                // Row and column are 0-5, the value is 0-6, the delay is any non-negative number
+                if ((field < 2 && value > 5) || (field == 2 && value > 6) || value < 0) {
+                    throw new IOException("Corrupt move log: move " + i + " is out of range");
+                }
+            }
+        }
+        if (position != length) {
+            throw new IOException("Corrupt move log: " + (length - position) + " bytes after the last move");
+        }
+    }
+
+    /**
+     * Writes an unsigned LEB128 varint to the buffer.
+     *
+     * @param value The non-negative value to write
+     */
+    private void writeVarint(long value) {
+        while ((value & ~0x7FL) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    /**
+     * Reads an unsigned LEB128 varint from the buffer.
+     *
+     * @param position A one-element array holding the read offset, advanced past the varint
+     * @return The decoded value
+     */
+    private long readVarint(int[] position) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = data[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    /**
+     * Receives the moves of a log in order.
+     */
+    public interface MoveVisitor {
+
+        /**
+         * Handles one logged move.
+         *
+         * @param row The row index
+         * @param col The column index
+         * @param value The value played (0 for a clear)
+         * @param deltaMillis Milliseconds elapsed since the previous move
+         */
+        void visit(int row, int col, int value, long deltaMillis);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.miniproyectosudoku.model.replay;
+
+import com.example.miniproyectosudoku.model.game.Game;
+import com.example.miniproyectosudoku.model.game.IGame;
+
+/**
+ * Reconstructs game sessions from their move logs.
+ * Moves are applied as fast as possible, ignoring the recorded delays, so
+ * recorded sessions can also be replayed in bulk as a load test of the engine
+ * (see ReplayLoadTest under src/test).
+ * @version 1.0
+ */
+public class Replayer {
+
+    /**
+     * Replays a log into a new game with the rules recorded in the log.
+     *
+     * @param log The move log to replay
+     * @return The game in the state it had after the last logged move
+     */
+    public static Game replay(MoveLog log) {
+        Game game = new Game(log.getRules());
+        replay(log, game);
+        return game;
+    }
+
+    /**
+     * Replays a log into an existing game, restarting it from the log's seed.
+     * The game must use the rules recorded in the log ({@link MoveLog#getRules()}).
+     *
+     * @param log The move log to replay
+     * @param game The game to replay into
+     */
+    public static void replay(MoveLog log, IGame game) {
+        game.startNewGame(log.getSeed());
+        log.forEach((row, col, value, deltaMillis) -> game.makeMove(row, col, value));
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.miniproyectosudoku.model.replay;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Saves the move logs of finished or abandoned sessions,
+ * so they can be replayed later with {@link Replayer}.
+ * @version 1.0
+ */
+public final class SessionLogs {
+
+    /**
+     * Directory the application saves its session logs to.
+     */
+    public static final Path DEFAULT_DIR = Path.of(System.getProperty("user.home"), ".miniproyectosudoku", "sessions");
+
+    /**
+     * Private constructor, only static methods are provided.
+     */
+    private SessionLogs() {
+    }
+
+    /**
+     * Saves a log to {@link #DEFAULT_DIR}.
+     *
+     * @param log The move log
+     * @return The file the log was written to
+     * @throws IOException if the log cannot be written
+     */
+    public static Path save(MoveLog log) throws IOException {
+        return save(log, DEFAULT_DIR);
+    }
+
+    /**
+     * Saves a log to a directory, in a new file named after the seed and the current time.
+     *
+     * @param log The move log
+     * @param dir The directory, created if needed
+     * @return The file the log was written to
+     * @throws IOException if the log cannot be written
+     */
+    public static Path save(MoveLog log, Path dir) throws IOException {
+        Files.createDirectories(dir);
+        Path file = dir.resolve(String.format("%016x-%d.log", log.getSeed(), System.currentTimeMillis()));
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            log.writeTo(out);
+        }
+        return file;
+    }
+}
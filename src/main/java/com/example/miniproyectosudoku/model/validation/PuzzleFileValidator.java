@@ -0,0 +1,430 @@
+package com.example.miniproyectosudoku.model.validation;
+
+import com.example.miniproyectosudoku.model.board.Board;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Validates bulk puzzle/solution files without loading them into memory.
+ * The file is memory-mapped and split into slices at line boundaries, and
+ * each slice is checked on its own thread with a reusable {@link Board},
+ * so the same constraint rules as the game are applied.
+ * <p>
+ * Each line holds one record: 36 puzzle cells ('0' or '.' for empty),
+ * one separator character, and 36 solution cells. Empty lines and lines
+ * starting with '#' are ignored. A record fails if its givens break the
+ * rules, if the solution is incomplete, invalid or does not match the
+ * givens, or if the puzzle does not have exactly one solution.
+ * @version 1.0
+ */
+public class PuzzleFileValidator {
+
+    private static final int SIZE = 6;
+    private static final int CELLS = SIZE * SIZE;
+    private static final int RECORD_LENGTH = CELLS * 2 + 1;
+    private static final long MAX_SLICE = 1L << 30; // Keeps every mapping well under 2 GB
+    private static final int SCAN_BUFFER = 8192; // Bytes read at a time when looking for a slice boundary
+
+    private final int threads;
+
+    /**
+     * Constructor for PuzzleFileValidator.
+     *
+     * @param threads The number of slices validated in parallel
+     */
+    public PuzzleFileValidator(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Validates every record of a file and prints the failing ones.
+     *
+     * @param file The file to validate
+     * @param failures The stream receiving one line per failing record, in file order
+     * @return The validation report
+     * @throws IOException if the file cannot be read
+     */
+    public Report validate(Path file, PrintStream failures) throws IOException {
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            List<long[]> slices = split(channel);
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<SliceResult>> results = new ArrayList<>();
+                for (long[] slice : slices) {
+                    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, slice[0], slice[1] - slice[0]);
+                    long offset = slice[0];
+                    results.add(pool.submit(() -> validateSlice(buffer, offset)));
+                }
+
+                long grids = 0;
+                long failed = 0;
+                for (Future<SliceResult> future : results) {
+                    SliceResult result = future.get();
+                    grids += result.grids;
+                    failed += result.failures.size();
+                    for (Failure failure : result.failures) {
+                        failures.println(describe(result.buffer, result.offset, failure));
+                    }
+                }
+                return new Report(grids, failed, System.nanoTime() - start);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Validation interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IOException("Validation failed", e.getCause());
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Splits a file into byte ranges that start and end on line boundaries.
+     *
+     * @param channel The file channel
+     * @return The [start, end) ranges of each slice
+     * @throws IOException if the file cannot be read
+     */
+    private List<long[]> split(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long sliceSize = Math.min(MAX_SLICE, Math.max(RECORD_LENGTH + 1, size / threads + 1));
+        List<long[]> slices = new ArrayList<>();
+        ByteBuffer scan = ByteBuffer.allocate(SCAN_BUFFER);
+        long start = 0;
+        while (start < size) {
+            long end = nextLineStart(channel, scan, Math.min(size, start + sliceSize));
+            slices.add(new long[]{start, end});
+            start = end;
+        }
+        return slices;
+    }
+
+    /**
+     * Finds the start of the first line at or after a position.
+     * Reads forward through one reused buffer, so a very long line
+     * (or a file without newlines) costs no extra mappings.
+     *
+     * @param channel The file channel
+     * @param scan The buffer to read through
+     * @param position The position to search from
+     * @return The offset just after the next newline, or the file size
+     * @throws IOException if the file cannot be read
+     */
+    private static long nextLineStart(FileChannel channel, ByteBuffer scan, long position) throws IOException {
+        long size = channel.size();
+        if (position >= size) {
+            return size;
+        }
+        long read = position - 1; // The byte before the position may end the previous line
+        while (read < size) {
+            scan.clear();
+            int count = channel.read(scan, read);
+            if (count <= 0) {
+                break;
+            }
+            for (int i = 0; i < count; i++) {
+                if (scan.get(i) == '\n') {
+                    return read + i + 1;
+                }
+            }
+            read += count;
+        }
+        return size;
+    }
+
+    /**
+     * Validates every record of one slice.
+     *
+     * @param buffer The mapped slice
+     * @param offset The file offset of the slice, used in failure reports
+     * @return The records checked and the failures found
+     */
+    private SliceResult validateSlice(MappedByteBuffer buffer, long offset) {
+        SliceResult result = new SliceResult(buffer, offset);
+        Board board = new Board();
+        byte[] puzzle = new byte[CELLS];
+        byte[] solution = new byte[CELLS];
+
+        int limit = buffer.limit();
+        int lineStart = 0;
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int contentEnd = lineEnd;
+            if (contentEnd > lineStart && buffer.get(contentEnd - 1) == '\r') {
+                contentEnd--;
+            }
+
+            if (contentEnd > lineStart && buffer.get(lineStart) != '#') {
+                result.grids++;
+                String error = parse(buffer, lineStart, contentEnd, puzzle, solution);
+                if (error == null) {
+                    error = check(board, puzzle, solution);
+                }
+                if (error != null) {
+                    result.failures.add(new Failure(lineStart, contentEnd, error));
+                }
+            }
+            lineStart = lineEnd + 1;
+        }
+        return result;
+    }
+
+    /**
+     * Formats a failure for the report. At most one record's length of the
+     * line is quoted, so a malformed multi-megabyte line stays one short entry.
+     *
+     * @param buffer The mapped slice holding the record
+     * @param offset The file offset of the slice
+     * @param failure The failure
+     * @return The report line
+     */
+    private static String describe(MappedByteBuffer buffer, long offset, Failure failure) {
+        int length = failure.end - failure.start;
+        byte[] line = new byte[Math.min(length, RECORD_LENGTH)];
+        buffer.get(failure.start, line);
+        String text = "offset " + (offset + failure.start) + ": " + failure.error + ": " + new String(line);
+        return length > line.length ? text + "... (" + length + " bytes)" : text;
+    }
+
+    /**
+     * Parses one record into puzzle and solution cells.
+     *
+     * @param buffer The mapped slice
+     * @param start The offset of the record
+     * @param end The offset just after the record
+     * @param puzzle Receives the puzzle cells
+     * @param solution Receives the solution cells
+     * @return An error message, or null if the record is well formed
+     */
+    private static String parse(MappedByteBuffer buffer, int start, int end, byte[] puzzle, byte[] solution) {
+        if (end - start != RECORD_LENGTH) {
+            return "malformed record";
+        }
+        for (int i = 0; i < CELLS; i++) {
+            int p = buffer.get(start + i);
+            int s = buffer.get(start + CELLS + 1 + i);
+            if (p == '.') {
+                p = '0';
+            }
+            if (p < '0' || p > '0' + SIZE || s < '0' || s > '0' + SIZE) {
+                return "malformed record";
+            }
+            puzzle[i] = (byte) (p - '0');
+            solution[i] = (byte) (s - '0');
+        }
+        return null;
+    }
+
+    /**
+     * Checks a puzzle and its solution against the board rules.
+     *
+     * @param board A board to reuse for the checks
+     * @param puzzle The puzzle cells (0 for empty)
+     * @param solution The solution cells
+     * @return An error message, or null if the record is valid
+     */
+    static String check(Board board, byte[] puzzle, byte[] solution) {
+        // Solution: complete, consistent with the rules and with the givens
+        board.loadPuzzle(solution, solution, 0);
+        for (int i = 0; i < CELLS; i++) {
+            if (solution[i] == 0 || !board.isValidMove(i / SIZE, i % SIZE, solution[i])) {
+                return "invalid solution";
+            }
+            if (puzzle[i] != 0 && puzzle[i] != solution[i]) {
+                return "solution does not match puzzle";
+            }
+        }
+
+        // Puzzle: givens consistent with the rules
+        board.loadPuzzle(puzzle, solution, 0);
+        for (int i = 0; i < CELLS; i++) {
+            if (puzzle[i] != 0 && !board.isValidMove(i / SIZE, i % SIZE, puzzle[i])) {
+                return "puzzle breaks the rules";
+            }
+        }
+
+        // Uniqueness: the solution found must be the only one
+        if (countSolutions(board, 2) != 1) {
+            return "puzzle does not have a unique solution";
+        }
+        return null;
+    }
+
+    /**
+     * Counts the solutions of the board up to a limit, using the board's
+     * candidate masks to branch on the most constrained empty cell.
+     * The board is restored before returning.
+     *
+     * @param board The board to solve
+     * @param limit The count at which to stop searching
+     * @return The number of solutions found, at most limit
+     */
+    private static int countSolutions(Board board, int limit) {
+        int bestRow = -1;
+        int bestCol = -1;
+        int bestCount = SIZE + 1;
+        for (int r = 0; r < SIZE; r++) {
+            for (int c = 0; c < SIZE; c++) {
+                if (board.getValue(r, c) == 0) {
+                    int count = Integer.bitCount(board.getCandidates(r, c));
+                    if (count < bestCount) {
+                        bestRow = r;
+                        bestCol = c;
+                        bestCount = count;
+                    }
+                }
+            }
+        }
+        if (bestRow < 0) {
+            return 1;
+        }
+
+        int found = 0;
+        int mask = board.getCandidates(bestRow, bestCol);
+        for (int v = 1; v <= SIZE && found < limit; v++) {
+            if ((mask & (1 << v)) != 0) {
+                board.setValue(bestRow, bestCol, v);
+                found += countSolutions(board, limit - found);
+                board.setValue(bestRow, bestCol, 0);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Validates a file from the command line and prints the throughput.
+     * Usage: {@code PuzzleFileValidator <file> [threads]}
+     *
+     * @param args The file to validate and, optionally, the number of threads
+     * @throws IOException if the file cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: PuzzleFileValidator <file> [threads]");
+            return;
+        }
+
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        Report report = new PuzzleFileValidator(threads).validate(Path.of(args[0]), System.out);
+        System.err.printf("%d grids, %d failed, %.3f s, %.0f grids/s%n",
+                report.getGrids(), report.getFailed(), report.getNanos() / 1e9, report.getGridsPerSecond());
+    }
+
+    /**
+     * Records checked and failures found in one slice.
+     */
+    private static class SliceResult {
+        private final MappedByteBuffer buffer; // The slice, read again when failures are reported
+        private final long offset;
+        private long grids;
+        private final List<Failure> failures = new ArrayList<>();
+
+        /**
+         * Constructor for SliceResult.
+         *
+         * @param buffer The mapped slice
+         * @param offset The file offset of the slice
+         */
+        SliceResult(MappedByteBuffer buffer, long offset) {
+            this.buffer = buffer;
+            this.offset = offset;
+        }
+    }
+
+    /**
+     * A failing record: where it lies in its slice and why it failed.
+     * The line itself is only read when the failure is reported.
+     */
+    private static class Failure {
+        private final int start;
+        private final int end;
+        private final String error;
+
+        /**
+         * Constructor for Failure.
+         *
+         * @param start The offset of the record in its slice
+         * @param end The offset just after the record
+         * @param error The error message
+         */
+        Failure(int start, int end, String error) {
+            this.start = start;
+            this.end = end;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Summary of a validation run.
+     */
+    public static class Report {
+        private final long grids;
+        private final long failed;
+        private final long nanos;
+
+        /**
+         * Constructor for Report.
+         *
+         * @param grids The number of records checked
+         * @param failed The number of failing records
+         * @param nanos The elapsed time in nanoseconds
+         */
+        Report(long grids, long failed, long nanos) {
+            this.grids = grids;
+            this.failed = failed;
+            this.nanos = nanos;
+        }
+
+        /**
+         * Gets the number of records checked.
+         *
+         * @return The record count
+         */
+        public long getGrids() {
+            return grids;
+        }
+
+        /**
+         * Gets the number of failing records.
+         *
+         * @return The failure count
+         */
+        public long getFailed() {
+            return failed;
+        }
+
+        /**
+         * Gets the elapsed time.
+         *
+         * @return The elapsed time in nanoseconds
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * Gets the throughput of the run.
+         *
+         * @return The records checked per second
+         */
+        public double getGridsPerSecond() {
+            return grids / (nanos / 1e9);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.example.miniproyectosudoku.view;
 
-import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 
@@ -27,12 +26,11 @@ public class SudokuGameStage {
     }
 
     /**
-     * Initializes the user interface by loading the FXML layout and setting up the scene.
+     * Initializes the user interface by loading the (possibly preloaded) FXML layout and setting up the scene.
      */
     private void initUI() {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/example/miniproyectosudoku/sudoku-game-view.fxml"));
-            Scene scene = new Scene(loader.load());
+            Scene scene = new Scene(ViewCache.take(ViewCache.GAME_VIEW));
             stage.setTitle("Sudoku Game");
             stage.setScene(scene);
         } catch (IOException e) {
@@ -0,0 +1,154 @@
+package com.example.miniproyectosudoku.view;
+
+import javafx.fxml.FXMLLoader;
+import javafx.fxml.JavaFXBuilderFactory;
+import javafx.scene.Parent;
+import javafx.scene.image.Image;
+import javafx.util.Builder;
+import javafx.util.BuilderFactory;
+
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Loads and caches the FXML views of the application.
+ * Views can be preloaded on a background thread (for example while the welcome
+ * screen is showing) so that opening them later only has to wrap the already
+ * parsed scene graph in a Scene. Images referenced from FXML are decoded once
+ * and shared between every view that uses them.
+ * @version 1.0
+ */
+public final class ViewCache {
+
+    /**
+     * Resource path of the welcome view.
+     */
+    public static final String WELCOME_VIEW = "/com/example/miniproyectosudoku/sudoku-welcome-view.fxml";
+
+    /**
+     * Resource path of the game view.
+     */
+    public static final String GAME_VIEW = "/com/example/miniproyectosudoku/sudoku-game-view.fxml";
+
+    private static final Map<String, Image> images = new ConcurrentHashMap<>(); // Decoded images by URL
+    private static final Map<String, Future<Parent>> preloaded = new ConcurrentHashMap<>(); // Pending views by path
+    private static final BuilderFactory builderFactory = new CachingBuilderFactory();
+    private static final ExecutorService preloader = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "view-preloader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private ViewCache() {
+    }
+
+    /**
+     * Starts loading a view on the background thread, unless it is already being loaded.
+     * The parsed scene graph is kept until it is claimed with {@link #take(String)}.
+     *
+     * @param fxml The resource path of the FXML view
+     */
+    public static void preload(String fxml) {
+        preloaded.computeIfAbsent(fxml, path -> preloader.submit(() -> load(path)));
+    }
+
+    /**
+     * Returns the root node of a view. Uses the preloaded copy when there is one
+     * (waiting for it if it is still loading), otherwise loads the view right away.
+     * A scene graph can only belong to one Scene, so each preloaded copy is handed out once.
+     *
+     * @param fxml The resource path of the FXML view
+     * @return The root node of the loaded view
+     * @throws IOException if the view cannot be loaded
+     */
+    public static Parent take(String fxml) throws IOException {
+        Future<Parent> pending = preloaded.remove(fxml);
+        if (pending != null) {
+            try {
+                return pending.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                // Fall back to loading on the calling thread, which reports the error
+            }
+        }
+        return load(fxml);
+    }
+
+    /**
+     * Parses an FXML view, resolving its images through the shared image cache.
+     *
+     * @param fxml The resource path of the FXML view
+     * @return The root node of the loaded view
+     * @throws IOException if the view cannot be loaded
+     */
+    private static Parent load(String fxml) throws IOException {
+        FXMLLoader loader = new FXMLLoader(ViewCache.class.getResource(fxml), null, builderFactory);
+        return loader.load();
+    }
+
+    /**
+     * Builder factory that serves plain url-only images from the image cache
+     * and delegates everything else to the default JavaFX builders.
+     */
+    private static class CachingBuilderFactory implements BuilderFactory {
+        private final BuilderFactory delegate = new JavaFXBuilderFactory();
+
+        @Override
+        public Builder<?> getBuilder(Class<?> type) {
+            if (type == Image.class) {
+                return new CachedImageBuilder(delegate);
+            }
+            return delegate.getBuilder(type);
+        }
+    }
+
+    /**
+     * Collects the attributes of an Image element and builds it.
+     * Images declared only by URL are taken from the cache.
+     */
+    private static class CachedImageBuilder extends AbstractMap<String, Object> implements Builder<Image> {
+        private final BuilderFactory delegate;
+        private final HashMap<String, Object> attributes = new HashMap<>();
+
+        /**
+         * Constructor for CachedImageBuilder.
+         *
+         * @param delegate The factory used for images that cannot be cached
+         */
+        CachedImageBuilder(BuilderFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            return attributes.put(key, value);
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return attributes.entrySet();
+        }
+
+        @Override
+        public Image build() {
+            Object url = attributes.get("url");
+            if (attributes.size() == 1 && url != null) {
+                return images.computeIfAbsent(url.toString(), Image::new);
+            }
+
+            @SuppressWarnings("unchecked")
+            Map<String, Object> builder = (Map<String, Object>) delegate.getBuilder(Image.class);
+            builder.putAll(attributes);
+            return (Image) ((Builder<?>) builder).build();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.miniproyectosudoku.model.agent;
+
+import com.example.miniproyectosudoku.model.game.Game;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Load test that runs many self-play games in parallel and reports
+ * throughput, allocation and the time spent in each {@link com.example.miniproyectosudoku.model.game.IGame} call.
+ * Usage: {@code SelfPlayHarness [games] [threads] [perfect|human|hints]}
+ * @version 1.0
+ */
+public class SelfPlayHarness {
+
+    /**
+     * Runs the harness and prints the results.
+     *
+     * @param args Optionally: number of games (default 1000000), threads (default: all processors)
+     *             and strategy (default perfect)
+     * @throws InterruptedException if interrupted while waiting for the workers
+     * @throws ExecutionException if a worker fails
+     */
+    public static void main(String[] args) throws InterruptedException, ExecutionException {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        String strategyName = args.length > 2 ? args[2] : "perfect";
+
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<Worker>> results = new ArrayList<>();
+
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            long first = games * t / threads;
+            long last = games * (t + 1) / threads;
+            Worker worker = new Worker(Agent.strategy(strategyName), first, last, threadBean);
+            results.add(pool.submit(worker, worker));
+        }
+
+        AgentStats stats = new AgentStats();
+        TimedGame timings = new TimedGame(null);
+        long allocated = 0;
+        for (Future<Worker> result : results) {
+            Worker worker = result.get();
+            stats.add(worker.agent.getStats());
+            timings.add(worker.game);
+            allocated += worker.allocated;
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        pool.shutdown();
+
+        System.out.printf("%s: %d games on %d threads in %.2f s: %.0f games/s, %d solved%n",
+                strategyName, stats.getGames(), threads, seconds, stats.getGames() / seconds, stats.getSolved());
+        System.out.printf("moves: %d (%.1f/game), rejected: %d, hints: %d%n",
+                stats.getMoves(), stats.getMoves() / (double) stats.getGames(), stats.getRejected(), stats.getHints());
+        System.out.printf("allocation: %.1f MB/s, %.0f bytes/game%n",
+                allocated / seconds / 1e6, allocated / (double) stats.getGames());
+        for (TimedGame.Call call : TimedGame.Call.values()) {
+            long count = timings.getCount(call);
+            if (count > 0) {
+                System.out.printf("  %-15s %12d calls %10.1f ns/call %6.1f%% of time%n", call, count,
+                        timings.getNanos(call) / (double) count, 100.0 * timings.getNanos(call) / (seconds * 1e9 * threads));
+            }
+        }
+    }
+
+    /**
+     * Plays a range of seeds on one thread with its own agent and game.
+     */
+    private static class Worker implements Runnable {
+        private final Agent agent;
+        private final TimedGame game = new TimedGame(new Game());
+        private final long first;
+        private final long last;
+        private final com.sun.management.ThreadMXBean threadBean;
+        private long allocated;
+
+        /**
+         * Constructor for Worker.
+         *
+         * @param strategy The strategy the agent plays with
+         * @param first The first puzzle seed to play
+         * @param last The seed after the last one to play
+         * @param threadBean The bean used to measure the thread's allocation
+         */
+        Worker(Strategy strategy, long first, long last, com.sun.management.ThreadMXBean threadBean) {
+            this.agent = new Agent(strategy, first);
+            this.first = first;
+            this.last = last;
+            this.threadBean = threadBean;
+        }
+
+        @Override
+        public void run() {
+            long before = threadBean.getCurrentThreadAllocatedBytes();
+            for (long seed = first; seed < last; seed++) {
+                agent.play(game, seed);
+            }
+            allocated = threadBean.getCurrentThreadAllocatedBytes() - before;
+        }
+    }
+}
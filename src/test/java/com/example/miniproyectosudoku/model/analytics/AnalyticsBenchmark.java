@@ -0,0 +1,165 @@
+package com.example.miniproyectosudoku.model.analytics;
+
+import com.example.miniproyectosudoku.model.game.Game;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Throughput benchmark of the analytics pipeline. Producer threads record
+ * events for a few seconds, first directly into the pipeline and then through
+ * {@link Game} calls, while the consumer aggregates them and flushes to a
+ * temporary file. Reports the events consumed per second, the events dropped
+ * and the bytes allocated per event on the producer threads.
+ * Usage: {@code AnalyticsBenchmark [seconds] [producers]}
+ * @version 1.0
+ */
+public class AnalyticsBenchmark {
+
+    private static final int PUZZLES = 1000; // Distinct puzzle seeds of the synthetic events
+
+    /**
+     * Runs the benchmark and prints the results.
+     *
+     * @param args Optionally: seconds per phase (default 5) and producer threads (default 2)
+     * @throws Exception if the temporary file cannot be created or a producer is interrupted
+     */
+    public static void main(String[] args) throws Exception {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        int producers = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+
+        run("record", seconds, producers, AnalyticsBenchmark::recordEvents);
+        run("game", seconds, producers, AnalyticsBenchmark::playMoves);
+    }
+
+    /**
+     * A producer loop, run until the deadline.
+     */
+    private interface Producer {
+        /**
+         * Produces events.
+         *
+         * @param pipeline The pipeline receiving the events
+         * @param thread The producer index
+         * @param deadline The end of the run, in System.nanoTime units
+         * @return The number of events produced
+         */
+        long produce(AnalyticsPipeline pipeline, int thread, long deadline);
+    }
+
+    /**
+     * Runs one phase on a fresh pipeline and prints its results.
+     *
+     * @param name The phase name
+     * @param seconds The duration of the phase
+     * @param producers The number of producer threads
+     * @param producer The producer loop
+     * @throws Exception if the temporary file cannot be created or a producer is interrupted
+     */
+    private static void run(String name, int seconds, int producers, Producer producer) throws Exception {
+        Path file = Files.createTempFile("analytics", ".dat");
+        AnalyticsPipeline pipeline = new AnalyticsPipeline(file, 1 << 16, 250);
+        pipeline.start();
+
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long[] produced = new long[producers];
+        long[] allocated = new long[producers];
+        List<Thread> threads = new ArrayList<>();
+        long start = System.nanoTime();
+        long deadline = start + seconds * 1_000_000_000L;
+        for (int t = 0; t < producers; t++) {
+            int thread = t;
+            Thread worker = new Thread(() -> {
+                // Warm up before measuring allocation, so class loading and JIT are not counted
+                producer.produce(pipeline, thread, System.nanoTime() + 200_000_000L);
+                long before = threadBean.getCurrentThreadAllocatedBytes();
+                produced[thread] = producer.produce(pipeline, thread, deadline);
+                allocated[thread] = threadBean.getCurrentThreadAllocatedBytes() - before;
+            }, "producer-" + t);
+            threads.add(worker);
+            worker.start();
+        }
+        for (Thread worker : threads) {
+            worker.join();
+        }
+        pipeline.close();
+        double elapsed = (System.nanoTime() - start) / 1e9;
+
+        long events = 0;
+        long bytes = 0;
+        for (int t = 0; t < producers; t++) {
+            events += produced[t];
+            bytes += allocated[t];
+        }
+        System.out.printf("%s: %d producers, %.2f s: consumed %d events (%.0f/s), dropped %d (%.2f%%)%n",
+                name, producers, elapsed, pipeline.getConsumed(), pipeline.getConsumed() / elapsed,
+                pipeline.getDropped(), 100.0 * pipeline.getDropped() / Math.max(1, pipeline.getConsumed() + pipeline.getDropped()));
+        System.out.printf("  producer allocation: %.3f bytes/event, %d flushes, %d KB written%n",
+                bytes / (double) Math.max(1, events), pipeline.getFlushes(), Files.size(file) / 1024);
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Records synthetic events straight into the pipeline.
+     *
+     * @param pipeline The pipeline
+     * @param thread The producer index
+     * @param deadline The end of the run
+     * @return The number of events recorded or dropped
+     */
+    private static long recordEvents(AnalyticsPipeline pipeline, int thread, long deadline) {
+        EventType[] types = EventType.values();
+        long events = 0;
+        while ((events & 1023) != 0 || System.nanoTime() < deadline) {
+            long seed = (events >>> 6) % PUZZLES + thread * (long) PUZZLES; // Runs of 64 events per puzzle
+            pipeline.record(seed, types[(int) (events % types.length)], (int) (events % 36),
+                    (int) (events % 7), 12 + (int) (seed & 3), events & 0xFFF);
+            events++;
+        }
+        return events;
+    }
+
+    /**
+     * Drives a game with analytics on: every value of every empty cell is
+     * checked, and valid ones are placed and cleared again. A new puzzle is
+     * started every 64 passes, so part of the allocation is the game's own
+     * puzzle generation and move log.
+     *
+     * @param pipeline The pipeline
+     * @param thread The producer index
+     * @param deadline The end of the run
+     * @return The number of game calls that recorded an event
+     */
+    private static long playMoves(AnalyticsPipeline pipeline, int thread, long deadline) {
+        Game game = new Game();
+        game.setAnalytics(pipeline);
+        long events = 0;
+        long passes = 0;
+        while (System.nanoTime() < deadline) {
+            if (passes++ % 64 == 0) {
+                game.startNewGame(passes / 64 % PUZZLES + thread * (long) PUZZLES);
+            }
+            for (int cell = 0; cell < 36; cell++) {
+                int row = cell / 6;
+                int col = cell % 6;
+                if (game.isInitialCell(row, col)) {
+                    continue;
+                }
+                for (int value = 1; value <= 6; value++) {
+                    if (game.isValidMove(row, col, value)) {
+                        game.makeMove(row, col, value);
+                        game.makeMove(row, col, 0);
+                        events += 2;
+                    } else {
+                        events++;
+                    }
+                }
+            }
+        }
+        return events;
+    }
+}
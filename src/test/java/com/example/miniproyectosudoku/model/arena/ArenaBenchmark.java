@@ -0,0 +1,94 @@
+package com.example.miniproyectosudoku.model.arena;
+
+import com.example.miniproyectosudoku.model.board.Board;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Compares resident games per GB and full-GC pause time between heap
+ * {@link Board} objects and records in a {@link BoardArena}.
+ * Usage: {@code ArenaBenchmark [heap|arena] [games]}; run each mode in its
+ * own JVM with enough -Xmx (heap) or -XX:MaxDirectMemorySize (arena).
+ * @version 1.0
+ */
+public class ArenaBenchmark {
+
+    /**
+     * Runs the benchmark and prints the results.
+     *
+     * @param args The mode ("heap" or "arena", default "heap") and the number of games (default 1000000)
+     */
+    public static void main(String[] args) {
+        String mode = args.length > 0 ? args[0] : "heap";
+        int games = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+
+        // Every game holds the same puzzle; generation cost is not what is measured here
+        Board template = new Board();
+        template.generateInitialNumbers(7);
+        byte[] puzzle = template.toCells(false);
+        byte[] solution = template.toCells(true);
+
+        long heapBefore = usedHeap();
+        Object resident;
+        long offHeapBytes = 0;
+        if (mode.equals("arena")) {
+            BoardArena arena = new BoardArena(games);
+            ArenaBoard view = arena.view(0);
+            for (int i = 0; i < games; i++) {
+                view.moveTo(arena.allocate()).load(puzzle, solution, 7);
+            }
+            offHeapBytes = (long) games * BoardArena.RECORD_SIZE;
+            resident = arena;
+        } else {
+            Board[] boards = new Board[games];
+            for (int i = 0; i < games; i++) {
+                boards[i] = new Board();
+                boards[i].loadPuzzle(puzzle, solution, 7);
+            }
+            resident = boards;
+        }
+        long heapBytes = usedHeap() - heapBefore;
+        double bytesPerGame = (heapBytes + offHeapBytes) / (double) games;
+
+        // Full collections with all games resident: the heap boards must all be traced
+        long gcBefore = gcMillis();
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        double pauseMillis = (System.nanoTime() - start) / 5e6;
+        long gcTime = gcMillis() - gcBefore;
+
+        System.out.printf("%s: %d games, heap %.1f B/game, off-heap %.1f B/game -> %.0f games/GB%n",
+                mode, games, heapBytes / (double) games, offHeapBytes / (double) games, (1L << 30) / bytesPerGame);
+        System.out.printf("full GC: %.1f ms per collection (%d ms reported by collectors over 5 runs) [%s]%n",
+                pauseMillis, gcTime, resident.getClass().getSimpleName());
+    }
+
+    /**
+     * Gets the heap in use after requesting a garbage collection.
+     *
+     * @return The used heap in bytes
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Gets the total collection time reported by every collector.
+     *
+     * @return The accumulated GC time in milliseconds
+     */
+    private static long gcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, bean.getCollectionTime());
+        }
+        return total;
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.miniproyectosudoku.model.board;
+
+/**
+ * Compares generation and validation speed of the variant rule sets
+ * against the classic rules.
+ * Usage: {@code RuleSetBenchmark [puzzles]}
+ * @version 1.0
+ */
+public class RuleSetBenchmark {
+
+    /**
+     * Sample jigsaw layout: the region (0-5) of each cell, in row-major order.
+     */
+    static final int[] JIGSAW_REGIONS = {
+            0, 0, 0, 1, 1, 1,
+            2, 0, 0, 1, 1, 3,
+            2, 2, 0, 4, 1, 3,
+            2, 2, 5, 4, 3, 3,
+            2, 5, 5, 4, 4, 3,
+            5, 5, 5, 4, 4, 3
+    };
+
+    /**
+     * Runs the benchmark and prints the results.
+     *
+     * @param args Optionally, the number of puzzles to generate per rule set (default 20000)
+     */
+    public static void main(String[] args) {
+        int puzzles = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        RuleSet[] variants = {
+                RuleSet.classic(),
+                RuleSet.diagonal(),
+                RuleSet.jigsaw(JIGSAW_REGIONS),
+                killerFromSolution(1L)
+        };
+
+        for (int round = 0; round < 2; round++) { // First round warms up the JIT
+            for (RuleSet rules : variants) {
+                run(rules, puzzles, round == 1);
+            }
+        }
+    }
+
+    /**
+     * Measures one rule set.
+     *
+     * @param rules The rule set to measure
+     * @param puzzles The number of puzzles to generate
+     * @param print Whether to print the results
+     */
+    private static void run(RuleSet rules, int puzzles, boolean print) {
+        Board board = new Board(rules);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < puzzles; i++) {
+            board.generateInitialNumbers(i);
+        }
+        double generateNanos = (System.nanoTime() - start) / (double) puzzles;
+
+        // Validate every value in every cell, repeatedly, on the last generated puzzle
+        int checks = 0;
+        int valid = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < puzzles * 10; i++) {
+            for (int row = 0; row < 6; row++) {
+                for (int col = 0; col < 6; col++) {
+                    for (int value = 1; value <= 6; value++) {
+                        if (board.isValidMove(row, col, value)) {
+                            valid++;
+                        }
+                        checks++;
+                    }
+                }
+            }
+        }
+        double validateNanos = (System.nanoTime() - start) / (double) checks;
+
+        if (print) {
+            System.out.printf("%-9s generation: %8.0f ns/puzzle   validation: %5.1f ns/check (%d)%n",
+                    rules.getName(), generateNanos, validateNanos, valid & 1);
+        }
+    }
+
+    /**
+     * Builds a killer rule set whose cages are the horizontal pairs of cells
+     * of a classic solution, with that solution's sums.
+     *
+     * @param seed The seed of the classic puzzle the cages come from
+     * @return The killer rule set
+     */
+    static RuleSet killerFromSolution(long seed) {
+        Board classic = new Board();
+        classic.generateInitialNumbers(seed);
+        byte[] solution = classic.toCells(true);
+
+        int[][] cages = new int[18][];
+        int[] sums = new int[18];
+        for (int i = 0; i < 18; i++) {
+            cages[i] = new int[]{2 * i, 2 * i + 1};
+            sums[i] = solution[2 * i] + solution[2 * i + 1];
+        }
+        return RuleSet.killer(cages, sums);
+    }
+}
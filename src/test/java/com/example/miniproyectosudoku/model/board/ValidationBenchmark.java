@@ -0,0 +1,90 @@
+package com.example.miniproyectosudoku.model.board;
+
+/**
+ * Compares the validation loop over the flat cell array and peer table with
+ * the original loop over an {@code int[6][6]} grid that recomputed the block
+ * origin on every call.
+ * Usage: {@code ValidationBenchmark [iterations]}
+ * @version 1.0
+ */
+public class ValidationBenchmark {
+
+    /**
+     * Runs the benchmark and prints the results.
+     *
+     * @param args Optionally, the number of passes over the board (default 2000000)
+     */
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+
+        Board board = new Board();
+        board.generateInitialNumbers(42);
+        byte[] flat = board.toCells(false);
+        int[][] grid = board.getBoard();
+        RuleSet rules = RuleSet.classic();
+
+        for (int round = 0; round < 3; round++) { // Earlier rounds warm up the JIT
+            long start = System.nanoTime();
+            int valid = 0;
+            for (int i = 0; i < iterations; i++) {
+                for (int cell = 0; cell < 36; cell++) {
+                    for (int value = 1; value <= 6; value++) {
+                        if (rules.isValidMove(flat, cell, value)) {
+                            valid++;
+                        }
+                    }
+                }
+            }
+            double flatNanos = (System.nanoTime() - start) / (iterations * 216.0);
+
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                for (int cell = 0; cell < 36; cell++) {
+                    for (int value = 1; value <= 6; value++) {
+                        if (isValidMoveJagged(grid, cell / 6, cell % 6, value)) {
+                            valid++;
+                        }
+                    }
+                }
+            }
+            double jaggedNanos = (System.nanoTime() - start) / (iterations * 216.0);
+
+            if (round == 2) {
+                System.out.printf("flat peer table: %.2f ns/check, int[6][6] loops: %.2f ns/check, speedup %.2fx (%d)%n",
+                        flatNanos, jaggedNanos, jaggedNanos / flatNanos, valid & 1);
+            }
+        }
+    }
+
+    /**
+     * The original validation over a 2D grid, kept as the baseline.
+     *
+     * @param board The grid
+     * @param row The row index
+     * @param col The column index
+     * @param value The value to validate
+     * @return true if the move is valid, false otherwise
+     */
+    private static boolean isValidMoveJagged(int[][] board, int row, int col, int value) {
+        for (int c = 0; c < 6; c++) {
+            if (c != col && board[row][c] == value) {
+                return false;
+            }
+        }
+        for (int r = 0; r < 6; r++) {
+            if (r != row && board[r][col] == value) {
+                return false;
+            }
+        }
+        int startRow = (row / 2) * 2;
+        int startCol = (col / 3) * 3;
+        for (int r = startRow; r < startRow + 2; r++) {
+            for (int c = startCol; c < startCol + 3; c++) {
+                if ((r != row || c != col) && board[r][c] == value) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.miniproyectosudoku.model.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link AsyncGame}: operations are only queued on the caller's
+ * thread, run on the game executor in submission order, and their
+ * continuations run on the executor they are given.
+ * @version 1.0
+ */
+class AsyncGameTest {
+
+    /**
+     * Executor that records tasks and runs them only when asked,
+     * so a test can observe what happened before a task ran.
+     */
+    private static class RecordingExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        /**
+         * Runs recorded tasks, including the ones they record, until none are left.
+         *
+         * @return The number of tasks run
+         */
+        int runAll() {
+            int count = 0;
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+                count++;
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Starting a game only queues the generation, so the calling (FX) thread is never blocked by it.
+     */
+    @Test
+    void startNewGameReturnsBeforeGenerationRuns() {
+        Game game = new Game();
+        RecordingExecutor executor = new RecordingExecutor();
+        AsyncGame asyncGame = new AsyncGame(game, executor);
+
+        CompletableFuture<Void> started = asyncGame.startNewGame(42);
+
+        // Nothing was generated on the calling thread
+        assertFalse(started.isDone());
+        assertEquals(0, game.getFilledCount());
+
+        assertTrue(executor.runAll() > 0);
+        assertTrue(started.isDone());
+        assertTrue(game.getFilledCount() > 0);
+        assertEquals(42, game.getSeed());
+    }
+
+    /**
+     * The operation runs on the game executor and its continuation on the executor passed to it,
+     * as the controller does with {@code Platform::runLater}.
+     *
+     * @throws Exception if the operation fails or times out
+     */
+    @Test
+    void callbackRunsOnTheSuppliedExecutor() throws Exception {
+        ExecutorService gameThread = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "game-thread"));
+        ExecutorService uiThread = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "ui-thread"));
+        try {
+            AsyncGame asyncGame = new AsyncGame(new Game(), gameThread);
+            List<String> threads = new ArrayList<>();
+
+            asyncGame.submit(game -> {
+                        game.startNewGame(7);
+                        return Thread.currentThread().getName();
+                    })
+                    .thenAcceptAsync(generatedOn -> {
+                        threads.add(generatedOn);
+                        threads.add(Thread.currentThread().getName());
+                    }, uiThread)
+                    .get(10, TimeUnit.SECONDS);
+
+            assertEquals(List.of("game-thread", "ui-thread"), threads);
+        } finally {
+            gameThread.shutdownNow();
+            uiThread.shutdownNow();
+        }
+    }
+
+    /**
+     * A hint submitted right after a new game is computed on the generated board.
+     */
+    @Test
+    void operationsRunInSubmissionOrder() {
+        Game game = new Game();
+        RecordingExecutor executor = new RecordingExecutor();
+        AsyncGame asyncGame = new AsyncGame(game, executor);
+
+        CompletableFuture<Void> started = asyncGame.startNewGame(3);
+        CompletableFuture<int[]> hint = asyncGame.getHint();
+        assertFalse(hint.isDone());
+
+        executor.runAll();
+
+        assertTrue(started.isDone());
+        int[] value = hint.join();
+        assertNotNull(value);
+        assertEquals(0, game.getBoard()[value[0]][value[1]]);
+
+        Game expected = new Game();
+        expected.startNewGame(3);
+        assertArrayEquals(expected.getHint(), value);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.miniproyectosudoku.model.puzzle;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * Measures cache hit latency against generation and the heap used per cached puzzle.
+ * Usage: {@code PuzzleCacheBenchmark [entries]}
+ * @version 1.0
+ */
+public class PuzzleCacheBenchmark {
+
+    /**
+     * Runs the benchmark and prints the results.
+     *
+     * @param args Optionally, the number of entries to cache (default 100000)
+     */
+    public static void main(String[] args) {
+        int entries = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        LocalDate today = LocalDate.now();
+
+        // Memory per entry: heap growth after caching the entries
+        long before = usedHeap();
+        PuzzleCache cache = new PuzzleCache(entries, Duration.ofDays(1));
+        cache.warmDaily(today, entries);
+        long after = usedHeap();
+        System.out.printf("Cached %d puzzles: %.0f bytes/entry%n", cache.size(), (after - before) / (double) entries);
+
+        // Hit latency: repeated lookups of cached keys
+        PuzzleKey[] keys = new PuzzleKey[1024];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = PuzzleKey.daily(today.plusDays(i));
+        }
+        long sink = 0;
+        int lookups = 5_000_000;
+        for (int i = 0; i < lookups; i++) { // Warm up
+            sink += cache.get(keys[i & 1023]).getSeed();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < lookups; i++) {
+            sink += cache.get(keys[i & 1023]).getSeed();
+        }
+        double hitNanos = (System.nanoTime() - start) / (double) lookups;
+
+        // Miss cost: generating the same puzzles from scratch
+        int generations = 20_000;
+        start = System.nanoTime();
+        for (int i = 0; i < generations; i++) {
+            sink += Puzzle.generate(keys[i & 1023].getSeed()).getSeed();
+        }
+        double generateNanos = (System.nanoTime() - start) / (double) generations;
+
+        System.out.printf("Hit: %.0f ns/lookup, generation: %.0f ns/puzzle (%d)%n", hitNanos, generateNanos, sink & 1);
+    }
+
+    /**
+     * Gets the heap in use after requesting a garbage collection.
+     *
+     * @return The used heap in bytes
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
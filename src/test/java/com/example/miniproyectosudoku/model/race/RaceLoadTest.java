@@ -0,0 +1,82 @@
+package com.example.miniproyectosudoku.model.race;
+
+import com.example.miniproyectosudoku.model.agent.AgentStats;
+import com.example.miniproyectosudoku.model.agent.HumanStrategy;
+import com.example.miniproyectosudoku.model.agent.Strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Load test of a race room: synthetic players race on one puzzle while every
+ * player is also subscribed to the room's progress, over the loopback transport.
+ * Usage: {@code RaceLoadTest [players] [flushMillis] [threads]}
+ * @version 1.0
+ */
+public class RaceLoadTest {
+
+    /**
+     * Runs the load test and prints the results.
+     *
+     * @param args Optionally: players per room (default 1000), flush period in ms (default 50)
+     *             and threads (default: all processors)
+     * @throws Exception if a player thread fails
+     */
+    public static void main(String[] args) throws Exception {
+        int players = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        long flushMillis = args.length > 1 ? Long.parseLong(args[1]) : 50;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        RaceRoom room;
+        List<Leaderboard> views = new ArrayList<>();
+        double seconds;
+        // Closing the hub delivers the last batch before the results are read
+        try (RaceHub hub = new RaceHub(new LoopbackTransport())) {
+            room = hub.createRoom("load-test", 2024L, players);
+            List<RacePlayer> racers = new ArrayList<>();
+            for (int i = 0; i < players; i++) {
+                racers.add(room.join());
+                Leaderboard view = new Leaderboard(players);
+                views.add(view);
+                room.subscribe(view);
+            }
+            hub.start(flushMillis);
+
+            // Each thread drives a share of the players with human-like moves
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            List<Future<AgentStats>> results = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                results.add(pool.submit(() -> {
+                    Strategy strategy = new HumanStrategy(0.15, 0.02);
+                    Random random = new Random(thread);
+                    AgentStats stats = new AgentStats();
+                    for (int i = thread; i < players; i += threads) {
+                        strategy.play(racers.get(i), random, stats, 2_000);
+                    }
+                    return stats;
+                }));
+            }
+            AgentStats stats = new AgentStats();
+            for (Future<AgentStats> result : results) {
+                stats.add(result.get());
+            }
+            seconds = (System.nanoTime() - start) / 1e9;
+            pool.shutdown();
+        }
+
+        long published = room.getPublished();
+        Leaderboard first = views.get(0);
+        System.out.printf("%d players, %d subscribers, flush every %d ms, %.2f s%n",
+                players, room.getSubscriberCount(), flushMillis, seconds);
+        System.out.printf("published: %d updates (%.0f/s)%n", published, published / seconds);
+        System.out.printf("delivered per subscriber: %d batches, %d events (%.1f%% of published after coalescing)%n",
+                first.getBatches(), first.getEvents(), 100.0 * first.getEvents() / published);
+        System.out.printf("leader: %s%n", first.getStandings(1));
+    }
+}
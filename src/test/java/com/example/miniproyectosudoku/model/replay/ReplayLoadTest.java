@@ -0,0 +1,55 @@
+package com.example.miniproyectosudoku.model.replay;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Load test that replays recorded sessions in bulk with {@link Replayer}
+ * and reports the throughput of the engine.
+ * The game saves the logs of its sessions to {@link SessionLogs#DEFAULT_DIR}.
+ * Usage: {@code ReplayLoadTest <iterations> <log file>...}
+ * @version 1.0
+ */
+public class ReplayLoadTest {
+
+    /**
+     * Replays every given log file repeatedly and prints the throughput.
+     *
+     * @param args The number of iterations followed by the log files
+     * @throws IOException if a log file cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: ReplayLoadTest <iterations> <log file>...");
+            return;
+        }
+
+        int iterations = Integer.parseInt(args[0]);
+        List<MoveLog> logs = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(Path.of(args[i])))) {
+                logs.add(MoveLog.readFrom(in));
+            }
+        }
+
+        long sessions = 0;
+        long moves = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            for (MoveLog log : logs) {
+                Replayer.replay(log);
+                sessions++;
+                moves += log.size();
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("Replayed %d sessions (%d moves) in %.3f s: %.0f sessions/s, %.0f moves/s%n",
+                sessions, moves, seconds, sessions / seconds, moves / seconds);
+    }
+}